@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.benchmarks;
+
+import com.opensymphony.xwork2.ActionContext;
+import com.opensymphony.xwork2.ActionProxy;
+import com.opensymphony.xwork2.ActionProxyFactory;
+import org.apache.struts2.dispatcher.Dispatcher;
+import org.apache.struts2.dispatcher.mapper.ActionMapping;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures creating an {@link ActionProxy} and executing it through the default interceptor stack,
+ * without the servlet related work done by {@link Dispatcher#serviceAction}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ActionInvocationBenchmark {
+
+    private Dispatcher dispatcher;
+    private ActionProxyFactory actionProxyFactory;
+    private ActionMapping mapping;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dispatcher = BenchmarkDispatcher.create();
+        actionProxyFactory = dispatcher.getContainer().getInstance(ActionProxyFactory.class);
+        mapping = BenchmarkDispatcher.createMapping();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkDispatcher.destroy(dispatcher);
+    }
+
+    @Benchmark
+    public String execute() throws Exception {
+        MockHttpServletRequest request = BenchmarkDispatcher.createRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Map<String, Object> extraContext = dispatcher.createContextMap(request, response, mapping);
+
+        ActionProxy proxy = actionProxyFactory.createActionProxy(
+                BenchmarkDispatcher.NAMESPACE, BenchmarkDispatcher.ACTION_NAME, null, extraContext, false, false);
+        try {
+            return proxy.execute();
+        } finally {
+            ActionContext.clear();
+        }
+    }
+}
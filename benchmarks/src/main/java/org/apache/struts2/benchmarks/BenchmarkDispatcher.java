@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.benchmarks;
+
+import com.opensymphony.xwork2.ActionContext;
+import org.apache.struts2.dispatcher.Dispatcher;
+import org.apache.struts2.dispatcher.mapper.ActionMapping;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockServletContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bootstraps a {@link Dispatcher} configured with struts-benchmarks.xml
+ */
+final class BenchmarkDispatcher {
+
+    static final String NAMESPACE = "/bench";
+    static final String ACTION_NAME = "hello";
+
+    private BenchmarkDispatcher() {
+    }
+
+    static Dispatcher create() {
+        Map<String, String> params = new HashMap<>();
+        params.put("config", "struts-default.xml,struts-benchmarks.xml");
+
+        Dispatcher dispatcher = new Dispatcher(new MockServletContext(), params);
+        dispatcher.init();
+        Dispatcher.setInstance(dispatcher);
+        return dispatcher;
+    }
+
+    static void destroy(Dispatcher dispatcher) {
+        dispatcher.cleanup();
+        Dispatcher.setInstance(null);
+        ActionContext.clear();
+    }
+
+    static ActionMapping createMapping() {
+        return new ActionMapping(ACTION_NAME, NAMESPACE, null, new HashMap<String, Object>());
+    }
+
+    static MockHttpServletRequest createRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", NAMESPACE + "/" + ACTION_NAME + ".action");
+        request.setServletPath(NAMESPACE + "/" + ACTION_NAME + ".action");
+        request.addParameter("name", "Struts");
+        return request;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.benchmarks;
+
+import org.apache.struts2.dispatcher.Dispatcher;
+import org.apache.struts2.dispatcher.PrepareOperations;
+import org.apache.struts2.dispatcher.mapper.ActionMapping;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a full request going through {@link Dispatcher#serviceAction}, including
+ * creating the action context, running the default interceptor stack and executing the result.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DispatcherBenchmark {
+
+    private Dispatcher dispatcher;
+    private PrepareOperations prepare;
+    private ActionMapping mapping;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dispatcher = BenchmarkDispatcher.create();
+        prepare = new PrepareOperations(dispatcher);
+        mapping = BenchmarkDispatcher.createMapping();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkDispatcher.destroy(dispatcher);
+    }
+
+    @Benchmark
+    public int serviceAction() throws Exception {
+        MockHttpServletRequest request = BenchmarkDispatcher.createRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            prepare.createActionContext(request, response);
+            prepare.assignDispatcherToThread();
+            dispatcher.serviceAction(request, response, mapping);
+        } finally {
+            prepare.cleanupRequest(request);
+        }
+        return response.getStatus();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.benchmarks;
+
+import com.opensymphony.xwork2.ActionContext;
+import com.opensymphony.xwork2.interceptor.ParametersInterceptor;
+import com.opensymphony.xwork2.util.ValueStack;
+import com.opensymphony.xwork2.util.ValueStackFactory;
+import org.apache.struts2.dispatcher.Dispatcher;
+import org.apache.struts2.dispatcher.HttpParameters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures applying request parameters to an action by the {@link ParametersInterceptor},
+ * including the accepted/excluded pattern checks, for a growing number of parameters.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParametersInterceptorBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int parameterCount;
+
+    private Dispatcher dispatcher;
+    private BenchmarkParametersInterceptor interceptor;
+    private ValueStack stack;
+    private BenchmarkAction action;
+    private HttpParameters parameters;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dispatcher = BenchmarkDispatcher.create();
+        interceptor = new BenchmarkParametersInterceptor();
+        dispatcher.getContainer().inject(interceptor);
+
+        action = new BenchmarkAction();
+        stack = dispatcher.getContainer().getInstance(ValueStackFactory.class).createValueStack();
+        stack.push(action);
+        ActionContext.of(stack.getContext()).bind();
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("name", "Struts");
+        params.put("person.firstName", "Jane");
+        for (int i = 0; i < parameterCount; i++) {
+            params.put("values['p" + i + "']", "value" + i);
+        }
+        parameters = HttpParameters.create(params).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkDispatcher.destroy(dispatcher);
+    }
+
+    @Benchmark
+    public BenchmarkAction setParameters() {
+        interceptor.applyParameters(action, stack, parameters);
+        return action;
+    }
+
+    /**
+     * Exposes {@link ParametersInterceptor#setParameters(Object, ValueStack, HttpParameters)}
+     */
+    public static class BenchmarkParametersInterceptor extends ParametersInterceptor {
+
+        void applyParameters(Object action, ValueStack stack, HttpParameters parameters) {
+            setParameters(action, stack, parameters);
+        }
+    }
+}
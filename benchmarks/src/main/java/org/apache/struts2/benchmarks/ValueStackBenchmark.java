@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.benchmarks;
+
+import com.opensymphony.xwork2.ActionContext;
+import com.opensymphony.xwork2.util.ValueStack;
+import com.opensymphony.xwork2.util.ValueStackFactory;
+import org.apache.struts2.dispatcher.Dispatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures OGNL expression evaluation against a {@link ValueStack} with an action on top.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValueStackBenchmark {
+
+    private Dispatcher dispatcher;
+    private ValueStack stack;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dispatcher = BenchmarkDispatcher.create();
+        stack = dispatcher.getContainer().getInstance(ValueStackFactory.class).createValueStack();
+        stack.push(new BenchmarkAction());
+        ActionContext.of(stack.getContext()).bind();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkDispatcher.destroy(dispatcher);
+    }
+
+    @Benchmark
+    public Object findValue() {
+        return stack.findValue("person.firstName");
+    }
+
+    @Benchmark
+    public Object findValueWithType() {
+        return stack.findValue("person.age", String.class);
+    }
+
+    @Benchmark
+    public void setValue() {
+        stack.setValue("person.firstName", "Jane");
+    }
+
+    @Benchmark
+    public String findString() {
+        return stack.findString("getText('missing.key', 'default')");
+    }
+}
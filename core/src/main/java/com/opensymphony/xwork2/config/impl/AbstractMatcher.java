@@ -49,6 +49,11 @@ public abstract class AbstractMatcher<E> implements Serializable {
      */
     List<Mapping<E>> compiledPatterns = new ArrayList<>();
 
+    /**
+     * <p> Index of the compiled patterns by their literal prefix, built on first match </p>
+     */
+    private transient volatile PrefixIndex prefixIndex;
+
     /**
      * This flag controls if passed named params should be appended
      * to the map in {@link #replaceParameters(Map, Map)}
@@ -109,22 +114,25 @@ public abstract class AbstractMatcher<E> implements Serializable {
             LOG.debug("Compiling pattern '{}'", name);
 
             pattern = wildcard.compilePattern(name);
-            compiledPatterns.add(new Mapping<>(name, pattern, target));
+            compiledPatterns.add(new Mapping<>(name, pattern, wildcard.getLiteralPrefix(name), target));
 
             if (looseMatch) {
                 int lastStar = name.lastIndexOf('*');
                 if (lastStar > 1 && lastStar == name.length() - 1) {
                     if (name.charAt(lastStar - 1) != '*') {
-                        pattern = wildcard.compilePattern(name.substring(0, lastStar - 1));
-                        compiledPatterns.add(new Mapping<>(name, pattern, target));
+                        String looseName = name.substring(0, lastStar - 1);
+                        pattern = wildcard.compilePattern(looseName);
+                        compiledPatterns.add(new Mapping<>(name, pattern, wildcard.getLiteralPrefix(looseName), target));
                     }
                 }
             }
+            prefixIndex = null;
         }
     }
     
     public void freeze() {
         compiledPatterns = Collections.unmodifiableList(new ArrayList<Mapping<E>>());
+        prefixIndex = null;
     }
 
     /**
@@ -139,8 +147,15 @@ public abstract class AbstractMatcher<E> implements Serializable {
         if (compiledPatterns.size() > 0) {
             LOG.debug("Attempting to match '{}' to a wildcard pattern, {} available", potentialMatch, compiledPatterns.size());
 
+            PrefixIndex index = prefixIndex;
+            if (index == null) {
+                index = new PrefixIndex(compiledPatterns);
+                prefixIndex = index;
+            }
+
             Map<String,String> vars = new LinkedHashMap<>();
-            for (Mapping<E> m : compiledPatterns) {
+            for (int candidate : index.candidates(potentialMatch)) {
+                Mapping<E> m = compiledPatterns.get(candidate);
                 if (wildcard.match(vars, potentialMatch, m.getPattern())) {
                     LOG.debug("Value matches pattern '{}'", m.getOriginalPattern());
                     config = convert(potentialMatch, m.getTarget(), vars);
@@ -246,21 +261,39 @@ public abstract class AbstractMatcher<E> implements Serializable {
          */
         private final Object pattern;
 
+        /**
+         * <p> The literal prefix of the pattern. </p>
+         */
+        private final String literalPrefix;
+
         /**
          * <p> The original object. </p>
          */
         private final E config;
 
         /**
-         * <p> Contructs a read-only Mapping instance. </p>
+         * <p> Contructs a read-only Mapping instance without literal prefix, it is checked against every path. </p>
          *
          * @param original The original pattern
          * @param pattern The compiled pattern
          * @param config  The original object
          */
         public Mapping(String original, Object pattern, E config) {
+            this(original, pattern, "", config);
+        }
+
+        /**
+         * <p> Contructs a read-only Mapping instance. </p>
+         *
+         * @param original The original pattern
+         * @param pattern The compiled pattern
+         * @param literalPrefix The literal prefix of the pattern
+         * @param config  The original object
+         */
+        public Mapping(String original, Object pattern, String literalPrefix, E config) {
             this.original = original;
             this.pattern = pattern;
+            this.literalPrefix = literalPrefix == null ? "" : literalPrefix;
             this.config = config;
         }
 
@@ -273,6 +306,15 @@ public abstract class AbstractMatcher<E> implements Serializable {
             return this.pattern;
         }
 
+        /**
+         * <p> Gets the literal prefix any matching path must start with. </p>
+         *
+         * @return The literal prefix
+         */
+        public String getLiteralPrefix() {
+            return this.literalPrefix;
+        }
+
         /**
          * <p> Gets the object that contains the pattern. </p>
          *
@@ -291,4 +333,83 @@ public abstract class AbstractMatcher<E> implements Serializable {
             return this.original;
         }
     }
+
+    /**
+     * <p> Trie of the literal prefixes of the compiled patterns. Matching a path walks the trie along the path
+     * and collects only the patterns whose prefix the path starts with, keeping them in the order they were
+     * added so the first match still wins. </p>
+     */
+    private static class PrefixIndex {
+
+        private static final int[] NO_CANDIDATES = new int[0];
+
+        private final Node root = new Node();
+
+        PrefixIndex(List<? extends Mapping<?>> mappings) {
+            for (int i = 0; i < mappings.size(); i++) {
+                Node node = root;
+                String prefix = mappings.get(i).getLiteralPrefix();
+                for (int c = 0; c < prefix.length(); c++) {
+                    node = node.child(prefix.charAt(c));
+                }
+                node.add(i);
+            }
+        }
+
+        /**
+         * @param path The path to match
+         * @return Indexes of the patterns which can match the path, in ascending order
+         */
+        int[] candidates(String path) {
+            int[] candidates = root.indexes;
+            Node node = root;
+            for (int i = 0; i < path.length(); i++) {
+                node = node.children.get(path.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                if (node.indexes.length > 0) {
+                    candidates = merge(candidates, node.indexes);
+                }
+            }
+            return candidates;
+        }
+
+        private static int[] merge(int[] left, int[] right) {
+            if (left.length == 0) {
+                return right;
+            }
+            int[] merged = new int[left.length + right.length];
+            int l = 0, r = 0, m = 0;
+            while (l < left.length && r < right.length) {
+                merged[m++] = left[l] < right[r] ? left[l++] : right[r++];
+            }
+            while (l < left.length) {
+                merged[m++] = left[l++];
+            }
+            while (r < right.length) {
+                merged[m++] = right[r++];
+            }
+            return merged;
+        }
+
+        private static class Node {
+            private final Map<Character, Node> children = new HashMap<>();
+            private int[] indexes = NO_CANDIDATES;
+
+            Node child(char c) {
+                Node child = children.get(c);
+                if (child == null) {
+                    child = new Node();
+                    children.put(c, child);
+                }
+                return child;
+            }
+
+            void add(int index) {
+                indexes = Arrays.copyOf(indexes, indexes.length + 1);
+                indexes[indexes.length - 1] = index;
+            }
+        }
+    }
 }
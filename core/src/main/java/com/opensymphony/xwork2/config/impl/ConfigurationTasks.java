@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.config.impl;
+
+import com.opensymphony.xwork2.ActionContext;
+import com.opensymphony.xwork2.config.ConfigurationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs independent configuration loading tasks, like building the runtime configuration of several packages, on a
+ * fork-join pool.
+ * <p>
+ * Results are returned in the order of the given items and the failure of the first failing item is rethrown once
+ * all tasks are done, so callers merge the results exactly as if the items had been processed one after another.
+ * Tasks run with the context class loader and the {@link ActionContext} of the calling thread.
+ * </p>
+ */
+public final class ConfigurationTasks {
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private ConfigurationTasks() {
+    }
+
+    /**
+     * Applies the task to each item, in parallel if there are several items and processors.
+     *
+     * @param items items to process
+     * @param task  task to apply to each item
+     * @param <T>   type of the items
+     * @param <R>   type of the results
+     * @return results in the order of the items
+     */
+    public static <T, R> List<R> map(List<T> items, Function<? super T, ? extends R> task) {
+        return map(items, task, Runtime.getRuntime().availableProcessors());
+    }
+
+    static <T, R> List<R> map(List<T> items, final Function<? super T, ? extends R> task, int maxParallelism) {
+        int parallelism = Math.min(items.size(), maxParallelism);
+        List<R> results = new ArrayList<>(items.size());
+        if (parallelism < 2) {
+            for (T item : items) {
+                results.add(task.apply(item));
+            }
+            return results;
+        }
+
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        final ActionContext actionContext = ActionContext.getContext();
+        ForkJoinPool pool = new ForkJoinPool(parallelism, new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+            @Override
+            public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+                ForkJoinWorkerThread thread = new ForkJoinWorkerThread(pool) {
+                };
+                thread.setName("StrutsConfigurationLoader-" + THREAD_COUNT.incrementAndGet());
+                thread.setContextClassLoader(classLoader);
+                return thread;
+            }
+        }, null, false);
+
+        try {
+            // failures are kept as thrown, ForkJoinTask#get() may wrap them in copies
+            final Throwable[] failures = new Throwable[items.size()];
+            List<Future<R>> futures = new ArrayList<>(items.size());
+            for (int i = 0; i < items.size(); i++) {
+                final int index = i;
+                final T item = items.get(i);
+                futures.add(pool.submit(new Callable<R>() {
+                    @Override
+                    public R call() {
+                        if (actionContext != null) {
+                            ActionContext.bind(actionContext);
+                        }
+                        try {
+                            return task.apply(item);
+                        } catch (RuntimeException | Error e) {
+                            failures[index] = e;
+                            return null;
+                        } finally {
+                            if (actionContext != null) {
+                                ActionContext.clear();
+                            }
+                        }
+                    }
+                }));
+            }
+
+            for (Future<R> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    throw new ConfigurationException("Unable to load configuration", e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ConfigurationException("Interrupted while loading configuration", e);
+                }
+            }
+
+            for (Throwable failure : failures) {
+                if (failure instanceof RuntimeException) {
+                    throw (RuntimeException) failure;
+                }
+                if (failure != null) {
+                    throw (Error) failure;
+                }
+            }
+            return results;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+}
@@ -28,6 +28,8 @@ import com.opensymphony.xwork2.conversion.*;
 import com.opensymphony.xwork2.conversion.impl.*;
 import com.opensymphony.xwork2.factory.*;
 import com.opensymphony.xwork2.inject.*;
+import com.opensymphony.xwork2.ognl.DefaultOgnlCacheFactory;
+import com.opensymphony.xwork2.ognl.OgnlCacheFactory;
 import com.opensymphony.xwork2.ognl.OgnlReflectionProvider;
 import com.opensymphony.xwork2.ognl.OgnlUtil;
 import com.opensymphony.xwork2.ognl.OgnlValueStackFactory;
@@ -47,6 +49,9 @@ import org.apache.struts2.conversion.StrutsTypeConverterHolder;
 import org.apache.struts2.conversion.StrutsTypeConverterCreator;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 
 /**
@@ -279,6 +284,7 @@ public class DefaultConfiguration implements Configuration {
 
         builder.factory(ObjectTypeDeterminer.class, DefaultObjectTypeDeterminer.class, Scope.SINGLETON);
         builder.factory(PropertyAccessor.class, CompoundRoot.class.getName(), CompoundRootAccessor.class, Scope.SINGLETON);
+        builder.factory(OgnlCacheFactory.class, DefaultOgnlCacheFactory.class, Scope.SINGLETON);
         builder.factory(OgnlUtil.class, Scope.SINGLETON);
 
         builder.factory(ValueSubstitutor.class, EnvsValueSubstitutor.class, Scope.SINGLETON);
@@ -315,28 +321,47 @@ public class DefaultConfiguration implements Configuration {
         Map<String, Map<String, ActionConfig>> namespaceActionConfigs = new LinkedHashMap<>();
         Map<String, String> namespaceConfigs = new LinkedHashMap<>();
 
+        List<PackageConfig> packageConfigs = new ArrayList<>();
         for (PackageConfig packageConfig : packageContexts.values()) {
-
             if (!packageConfig.isAbstract()) {
-                String namespace = packageConfig.getNamespace();
-                Map<String, ActionConfig> configs = namespaceActionConfigs.get(namespace);
+                packageConfigs.add(packageConfig);
+            }
+        }
 
-                if (configs == null) {
-                    configs = new LinkedHashMap<>();
-                }
+        Function<PackageConfig, Map<String, ActionConfig>> packageBuilder = new Function<PackageConfig, Map<String, ActionConfig>>() {
+            @Override
+            public Map<String, ActionConfig> apply(PackageConfig packageConfig) {
+                return buildFullActionConfigs(packageConfig);
+            }
+        };
+        boolean parallelBuild = Boolean.parseBoolean(
+                container.getInstance(String.class, StrutsConstants.STRUTS_CONFIGURATION_PARALLEL_BUILD)
+        );
+        List<Map<String, ActionConfig>> packageActionConfigs;
+        if (parallelBuild) {
+            packageActionConfigs = ConfigurationTasks.map(packageConfigs, packageBuilder);
+        } else {
+            packageActionConfigs = new ArrayList<>(packageConfigs.size());
+            for (PackageConfig packageConfig : packageConfigs) {
+                packageActionConfigs.add(packageBuilder.apply(packageConfig));
+            }
+        }
 
-                Map<String, ActionConfig> actionConfigs = packageConfig.getAllActionConfigs();
+        // merge in package order, so later packages override actions of earlier ones in the same namespace
+        for (int i = 0; i < packageConfigs.size(); i++) {
+            PackageConfig packageConfig = packageConfigs.get(i);
+            String namespace = packageConfig.getNamespace();
+            Map<String, ActionConfig> configs = namespaceActionConfigs.get(namespace);
 
-                for (Object o : actionConfigs.keySet()) {
-                    String actionName = (String) o;
-                    ActionConfig baseConfig = actionConfigs.get(actionName);
-                    configs.put(actionName, buildFullActionConfig(packageConfig, baseConfig));
-                }
+            if (configs == null) {
+                configs = new LinkedHashMap<>();
+            }
 
-                namespaceActionConfigs.put(namespace, configs);
-                if (packageConfig.getFullDefaultActionRef() != null) {
-                    namespaceConfigs.put(namespace, packageConfig.getFullDefaultActionRef());
-                }
+            configs.putAll(packageActionConfigs.get(i));
+
+            namespaceActionConfigs.put(namespace, configs);
+            if (packageConfig.getFullDefaultActionRef() != null) {
+                namespaceConfigs.put(namespace, packageConfig.getFullDefaultActionRef());
             }
         }
 
@@ -349,6 +374,16 @@ public class DefaultConfiguration implements Configuration {
                 Collections.unmodifiableMap(namespaceConfigs), matcher, appendNamedParameters);
     }
 
+    private Map<String, ActionConfig> buildFullActionConfigs(PackageConfig packageConfig) throws ConfigurationException {
+        Map<String, ActionConfig> configs = new LinkedHashMap<>();
+        Map<String, ActionConfig> actionConfigs = packageConfig.getAllActionConfigs();
+
+        for (Map.Entry<String, ActionConfig> entry : actionConfigs.entrySet()) {
+            configs.put(entry.getKey(), buildFullActionConfig(packageConfig, entry.getValue()));
+        }
+        return configs;
+    }
+
     private void setDefaultResults(Map<String, ResultConfig> results, PackageConfig packageContext) {
         String defaultResult = packageContext.getFullDefaultResultType();
 
@@ -417,7 +452,15 @@ public class DefaultConfiguration implements Configuration {
 
     private static class RuntimeConfigurationImpl implements RuntimeConfiguration {
 
+        /**
+         * Max number of resolved wildcard/fallback lookups kept, the cache is flushed when exceeded
+         */
+        private static final int RESOLVED_CONFIGS_MAX_SIZE = 10000;
+
+        private static final ActionConfig NOT_FOUND = new ActionConfig.Builder("", "", "").build();
+
         private Map<String, Map<String, ActionConfig>> namespaceActionConfigs;
+        private final ConcurrentMap<ResolvedConfigKey, ActionConfig> resolvedConfigs = new ConcurrentHashMap<>();
         private Map<String, ActionConfigMatcher> namespaceActionConfigMatchers;
         private NamespaceMatcher namespaceMatcher;
         private Map<String, String> namespaceConfigs;
@@ -449,6 +492,30 @@ public class DefaultConfiguration implements Configuration {
          * @return the configuration information for action requested
          */
         public ActionConfig getActionConfig(String namespace, String name) {
+            Map<String, ActionConfig> actions = namespaceActionConfigs.get(namespace == null ? "" : namespace);
+            if (actions != null) {
+                ActionConfig config = actions.get(name);
+                if (config != null) {
+                    return config;
+                }
+            }
+
+            // wildcard and fallback lookups build new configs, keep the outcome for subsequent requests
+            ResolvedConfigKey key = new ResolvedConfigKey(namespace, name);
+            ActionConfig config = resolvedConfigs.get(key);
+            if (config == null) {
+                config = resolveActionConfig(namespace, name);
+                if (resolvedConfigs.size() >= RESOLVED_CONFIGS_MAX_SIZE) {
+                    resolvedConfigs.clear();
+                }
+                resolvedConfigs.putIfAbsent(key, config == null ? NOT_FOUND : config);
+            } else if (config == NOT_FOUND) {
+                config = null;
+            }
+            return config;
+        }
+
+        private ActionConfig resolveActionConfig(String namespace, String name) {
             ActionConfig config = findActionConfigInNamespace(namespace, name);
 
             // try wildcarded namespaces
@@ -523,6 +590,34 @@ public class DefaultConfiguration implements Configuration {
         }
     }
 
+    private static final class ResolvedConfigKey {
+
+        private final String namespace;
+        private final String name;
+
+        ResolvedConfigKey(String namespace, String name) {
+            this.namespace = namespace;
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ResolvedConfigKey that = (ResolvedConfigKey) o;
+            return Objects.equals(namespace, that.namespace) && Objects.equals(name, that.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(namespace, name);
+        }
+    }
+
     class ContainerProperties extends LocatableProperties {
         private static final long serialVersionUID = -7320625750836896089L;
 
@@ -1068,7 +1068,6 @@ public class XmlConfigurationProvider implements ConfigurationProvider {
             includedFileNames.add(fileName);
 
             Iterator<URL> urls = null;
-            InputStream is = null;
 
             IOException ioException = null;
             try {
@@ -1086,35 +1085,10 @@ public class XmlConfigurationProvider implements ConfigurationProvider {
                 }
             }
 
-            URL url = null;
             while (urls.hasNext()) {
-                try {
-                    url = urls.next();
-                    is = fileManager.loadFile(url);
-
-                    InputSource in = new InputSource(is);
-
-                    in.setSystemId(url.toString());
-
-                    docs.add(DomHelper.parse(in, dtdMappings));
-                    loadedFileUrls.add(url.toString());
-                } catch (StrutsException e) {
-                    if (includeElement != null) {
-                        throw new ConfigurationException("Unable to load " + url, e, includeElement);
-                    } else {
-                        throw new ConfigurationException("Unable to load " + url, e);
-                    }
-                } catch (Exception e) {
-                    throw new ConfigurationException("Caught exception while loading file " + fileName, e, includeElement);
-                } finally {
-                    if (is != null) {
-                        try {
-                            is.close();
-                        } catch (IOException e) {
-                            LOG.error("Unable to close input stream", e);
-                        }
-                    }
-                }
+                URL url = urls.next();
+                docs.add(loadDocument(url, fileName, includeElement));
+                loadedFileUrls.add(url.toString());
             }
 
             //sort the documents, according to the "order" attribute
@@ -1161,6 +1135,35 @@ public class XmlConfigurationProvider implements ConfigurationProvider {
         return finalDocs;
     }
 
+    private Document loadDocument(URL url, String fileName, Element includeElement) {
+        InputStream is = null;
+        try {
+            is = fileManager.loadFile(url);
+
+            InputSource in = new InputSource(is);
+
+            in.setSystemId(url.toString());
+
+            return DomHelper.parse(in, dtdMappings);
+        } catch (StrutsException e) {
+            if (includeElement != null) {
+                throw new ConfigurationException("Unable to load " + url, e, includeElement);
+            } else {
+                throw new ConfigurationException("Unable to load " + url, e);
+            }
+        } catch (Exception e) {
+            throw new ConfigurationException("Caught exception while loading file " + fileName, e, includeElement);
+        } finally {
+            if (is != null) {
+                try {
+                    is.close();
+                } catch (IOException e) {
+                    LOG.error("Unable to close input stream", e);
+                }
+            }
+        }
+    }
+
     protected Iterator<URL> getConfigurationUrls(String fileName) throws IOException {
         return ClassLoaderUtil.getResources(fileName, XmlConfigurationProvider.class, false);
     }
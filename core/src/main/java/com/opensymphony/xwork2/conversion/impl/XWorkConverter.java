@@ -23,6 +23,9 @@ import com.opensymphony.xwork2.conversion.*;
 import com.opensymphony.xwork2.conversion.annotations.Conversion;
 import com.opensymphony.xwork2.conversion.annotations.TypeConversion;
 import com.opensymphony.xwork2.inject.Inject;
+import com.opensymphony.xwork2.ognl.DefaultOgnlCacheFactory;
+import com.opensymphony.xwork2.ognl.OgnlCache;
+import com.opensymphony.xwork2.ognl.OgnlDefaultCache;
 import com.opensymphony.xwork2.util.*;
 import com.opensymphony.xwork2.util.reflection.ReflectionContextState;
 import org.apache.commons.lang3.StringUtils;
@@ -39,6 +42,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -148,6 +154,8 @@ public class XWorkConverter extends DefaultTypeConverter {
     public static final String PERIOD = ".";
     public static final Pattern messageIndexPattern = Pattern.compile(MESSAGE_INDEX_PATTERN);
 
+    private static final Object NO_CONVERTER = new Object();
+
     private TypeConverter defaultTypeConverter;
     private FileManager fileManager;
     private boolean reloadingConfigs;
@@ -157,6 +165,19 @@ public class XWorkConverter extends DefaultTypeConverter {
 
     private TypeConverterHolder converterHolder;
 
+    /**
+     * Converters resolved by {@link #convertValue(Map, Object, Member, String, Object, Class)}, not used when
+     * configuration reloading is enabled
+     */
+    private final OgnlCache<ConverterKey, Object> resolvedConverters =
+            new OgnlDefaultCache<>(DefaultOgnlCacheFactory.DEFAULT_MAX_SIZE);
+
+    /**
+     * Whether the converter mappings of a class have path keys (e.g. "foo.number"), paths are left out of the
+     * {@link #resolvedConverters} keys otherwise, so indexed paths (e.g. "rows.12.amount") don't create a key each
+     */
+    private final ConcurrentMap<Class, Boolean> pathMappings = new ConcurrentHashMap<>();
+
     protected XWorkConverter() {
     }
 
@@ -256,19 +277,15 @@ public class XWorkConverter extends DefaultTypeConverter {
      */
     @Override
     public Object convertValue(Map<String, Object> context, Object target, Member member, String property, Object value, Class toClass) {
-        //
-        // Process the conversion using the default mappings, if one exists
-        //
-        TypeConverter tc = null;
-
         if ((value != null) && (toClass == value.getClass())) {
             return value;
         }
 
         // allow this method to be called without any context
         // i.e. it can be called with as little as "Object value" and "Class toClass"
+        Class clazz = null;
         if (target != null) {
-            Class clazz = target.getClass();
+            clazz = target.getClass();
 
             Object[] classProp = null;
 
@@ -281,34 +298,31 @@ public class XWorkConverter extends DefaultTypeConverter {
                 clazz = (Class) classProp[0];
                 property = (String) classProp[1];
             }
-
-            tc = (TypeConverter) getConverter(clazz, property);
-            LOG.debug("field-level type converter for property [{}] = {}", property, (tc == null ? "none found" : tc));
         }
 
-        if (tc == null && context != null) {
-            // ok, let's see if we can look it up by path as requested in XW-297
+        // ok, let's see if we can look it up by path as requested in XW-297
+        Class pathClass = null;
+        String path = null;
+        if (context != null) {
             Object lastPropertyPath = context.get(ReflectionContextState.CURRENT_PROPERTY_PATH);
-            Class clazz = (Class) context.get(XWorkConverter.LAST_BEAN_CLASS_ACCESSED);
-            if (lastPropertyPath != null && clazz != null) {
-                String path = lastPropertyPath + "." + property;
-                tc = (TypeConverter) getConverter(clazz, path);
+            Class lastClass = (Class) context.get(XWorkConverter.LAST_BEAN_CLASS_ACCESSED);
+            if (lastPropertyPath != null && lastClass != null) {
+                pathClass = lastClass;
+                path = lastPropertyPath + "." + property;
             }
         }
 
-        if (tc == null) {
-            if (toClass.equals(String.class) && (value != null) && !(value.getClass().equals(String.class) || value.getClass().equals(String[].class))) {
-                // when converting to a string, use the source target's class's converter
-                tc = lookup(value.getClass());
-            } else {
-                // when converting from a string, use the toClass's converter
-                tc = lookup(toClass);
-            }
-
-            if (LOG.isDebugEnabled())
-                LOG.debug("global-level type converter for property [{}] = {} ", property, (tc == null ? "none found" : tc));
+        Class lookupClass = toClass;
+        if (String.class.equals(toClass) && (value != null) && !(value.getClass().equals(String.class) || value.getClass().equals(String[].class))) {
+            // when converting to a string, use the source target's class's converter
+            lookupClass = value.getClass();
         }
 
+        //
+        // Process the conversion using the default mappings, if one exists
+        //
+        TypeConverter tc = findConverter(new ConverterKey(clazz, property, pathClass, path, lookupClass));
+
 
         if (tc != null) {
             try {
@@ -344,6 +358,82 @@ public class XWorkConverter extends DefaultTypeConverter {
         }
     }
 
+    /**
+     * Returns the converter resolved for the given key, resolving it once and remembering the result unless
+     * configuration reloading is enabled.
+     */
+    private TypeConverter findConverter(ConverterKey key) {
+        if (reloadingConfigs) {
+            return resolveConverter(key);
+        }
+        if (key.path != null && !hasPathMappings(key.pathClass)) {
+            key = new ConverterKey(key.targetClass, key.property, null, null, key.lookupClass);
+        }
+
+        Object tc = resolvedConverters.get(key);
+        if (tc == null) {
+            tc = resolveConverter(key);
+            if (tc == null) {
+                tc = NO_CONVERTER;
+            }
+            resolvedConverters.put(key, tc);
+        }
+        return tc == NO_CONVERTER ? null : (TypeConverter) tc;
+    }
+
+    private boolean hasPathMappings(Class clazz) {
+        Boolean result = pathMappings.get(clazz);
+        if (result == null) {
+            result = Boolean.FALSE;
+            synchronized (clazz) {
+                if (!converterHolder.containsNoMapping(clazz)) {
+                    try {
+                        Map<String, Object> mapping = converterHolder.getMapping(clazz);
+                        if (mapping == null) {
+                            mapping = buildConverterMapping(clazz);
+                        }
+                        for (String name : mapping.keySet()) {
+                            if (name.indexOf('.') != -1) {
+                                result = Boolean.TRUE;
+                                break;
+                            }
+                        }
+                    } catch (Exception e) {
+                        LOG.debug("Got exception trying to read converter mappings of class [{}]", clazz, e);
+                        // the path is kept and getConverter() deals with the failure
+                        result = Boolean.TRUE;
+                    }
+                }
+            }
+            pathMappings.put(clazz, result);
+        }
+        return result;
+    }
+
+    /**
+     * Resolves the converter looking for a field-level converter of the target class, then for a converter by property
+     * path and finally for a global converter of the class to convert to or from.
+     */
+    private TypeConverter resolveConverter(ConverterKey key) {
+        TypeConverter tc = null;
+
+        if (key.targetClass != null) {
+            tc = (TypeConverter) getConverter(key.targetClass, key.property);
+            LOG.debug("field-level type converter for property [{}] = {}", key.property, (tc == null ? "none found" : tc));
+        }
+
+        if (tc == null && key.path != null) {
+            tc = (TypeConverter) getConverter(key.pathClass, key.path);
+        }
+
+        if (tc == null) {
+            tc = lookup(key.lookupClass);
+            LOG.debug("global-level type converter for property [{}] = {} ", key.property, (tc == null ? "none found" : tc));
+        }
+
+        return tc;
+    }
+
     /**
      * Looks for a TypeConverter in the default mappings.
      *
@@ -456,6 +546,7 @@ public class XWorkConverter extends DefaultTypeConverter {
 
     public synchronized void registerConverter(String className, TypeConverter converter) {
         converterHolder.addDefaultMapping(className, converter);
+        resolvedConverters.clear();
     }
 
     public synchronized void registerConverterNotFound(String className) {
@@ -575,6 +666,9 @@ public class XWorkConverter extends DefaultTypeConverter {
         } else {
             converterHolder.addNoMapping(clazz);
         }
+        // processing annotations may have registered new default mappings
+        resolvedConverters.clear();
+        pathMappings.clear();
 
         return mapping;
     }
@@ -627,4 +721,47 @@ public class XWorkConverter extends DefaultTypeConverter {
         return result;
     }
 
+    /**
+     * Everything the converter resolution of a single conversion depends on
+     */
+    private static final class ConverterKey {
+
+        private final Class targetClass;
+        private final String property;
+        private final Class pathClass;
+        private final String path;
+        private final Class lookupClass;
+        private final int hashCode;
+
+        ConverterKey(Class targetClass, String property, Class pathClass, String path, Class lookupClass) {
+            this.targetClass = targetClass;
+            this.property = property;
+            this.pathClass = pathClass;
+            this.path = path;
+            this.lookupClass = lookupClass;
+            this.hashCode = Objects.hash(targetClass, property, pathClass, path, lookupClass);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ConverterKey)) {
+                return false;
+            }
+            ConverterKey that = (ConverterKey) o;
+            return targetClass == that.targetClass
+                    && lookupClass == that.lookupClass
+                    && pathClass == that.pathClass
+                    && Objects.equals(property, that.property)
+                    && Objects.equals(path, that.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
 }
@@ -19,6 +19,9 @@ import com.opensymphony.xwork2.inject.util.ReferenceCache;
 
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.*;
 import java.security.AccessControlException;
 import java.util.*;
@@ -172,9 +175,124 @@ class ContainerImpl implements Container {
                Modifier.isPublic(member.getDeclaringClass().getModifiers());
     }
 
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * Creates a handle of type {@code (Object, Object)void} setting the given field, the first argument being the
+     * target (ignored for static fields).
+     *
+     * @return the handle or null if the field cannot be accessed through a method handle, in which case reflection
+     * has to be used
+     */
+    static MethodHandle createSetterHandle(Field field) {
+        try {
+            MethodHandle handle = LOOKUP.unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates a handle of type {@code (Object, Object[])void} invoking the given method, the first argument being the
+     * target (ignored for static methods) and the second one the parameters.
+     *
+     * @return the handle or null if the method cannot be accessed through a method handle, in which case reflection
+     * has to be used
+     */
+    static MethodHandle createMethodHandle(Method method) {
+        try {
+            MethodHandle handle = LOOKUP.unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            final int parameterCount = method.getParameterTypes().length;
+            return handle
+                    .asType(MethodType.genericMethodType(parameterCount + 1).changeReturnType(void.class))
+                    .asSpreader(Object[].class, parameterCount);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates a handle of type {@code (Object[])Object} invoking the given constructor with the parameters.
+     *
+     * @return the handle or null if the constructor cannot be accessed through a method handle, in which case
+     * reflection has to be used
+     */
+    static MethodHandle createConstructorHandle(Constructor<?> constructor) {
+        try {
+            final int parameterCount = constructor.getParameterTypes().length;
+            return LOOKUP.unreflectConstructor(constructor)
+                    .asType(MethodType.genericMethodType(parameterCount))
+                    .asSpreader(Object[].class, parameterCount);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Primitive types a wrapped value can be passed as, with unboxing and widening
+     */
+    private static final Map<Class<?>, List<Class<?>>> PRIMITIVE_CONVERSIONS = new HashMap<>();
+
+    static {
+        addPrimitiveConversions(Boolean.class, boolean.class);
+        addPrimitiveConversions(Character.class, char.class, int.class, long.class, float.class, double.class);
+        addPrimitiveConversions(Byte.class, byte.class, short.class, int.class, long.class, float.class, double.class);
+        addPrimitiveConversions(Short.class, short.class, int.class, long.class, float.class, double.class);
+        addPrimitiveConversions(Integer.class, int.class, long.class, float.class, double.class);
+        addPrimitiveConversions(Long.class, long.class, float.class, double.class);
+        addPrimitiveConversions(Float.class, float.class, double.class);
+        addPrimitiveConversions(Double.class, double.class);
+    }
+
+    private static void addPrimitiveConversions(Class<?> wrapper, Class<?>... primitives) {
+        PRIMITIVE_CONVERSIONS.put(wrapper, Arrays.asList(primitives));
+    }
+
+    /**
+     * Checks that the value can be passed where the type is expected, as reflection would accept it. A handle adapts
+     * its arguments with casts and unboxing, a value failing this check would make the handle throw a
+     * ClassCastException or NullPointerException which couldn't be told apart from one thrown by the target.
+     */
+    static boolean isAssignable(Class<?> type, Object value) {
+        if (!type.isPrimitive()) {
+            return value == null || type.isInstance(value);
+        }
+        if (value == null) {
+            return false;
+        }
+        final List<Class<?>> conversions = PRIMITIVE_CONVERSIONS.get(value.getClass());
+        return conversions != null && conversions.contains(type);
+    }
+
+    /**
+     * Checks the parameters against the parameter types like {@link #isAssignable(Class, Object)}, throwing the
+     * IllegalArgumentException reflection throws for a mismatch.
+     */
+    static void checkParameters(Member member, Class<?>[] parameterTypes, Object[] parameters) {
+        final int count = parameters == null ? 0 : parameters.length;
+        if (count != parameterTypes.length) {
+            throw new IllegalArgumentException("wrong number of arguments for " + member);
+        }
+        for (int i = 0; i < count; i++) {
+            if (!isAssignable(parameterTypes[i], parameters[i])) {
+                throw new IllegalArgumentException("argument type mismatch, cannot pass "
+                        + (parameters[i] == null ? "null" : parameters[i].getClass().getName())
+                        + " as " + parameterTypes[i].getName() + " to " + member);
+            }
+        }
+    }
+
     static class FieldInjector implements Injector {
 
         final Field field;
+        final MethodHandle setter;
         final InternalFactory<?> factory;
         final ExternalContext<?> externalContext;
 
@@ -193,6 +311,7 @@ class ContainerImpl implements Container {
                             + field.getDeclaringClass().getName() + "(" + field.getName() + ")", e);
                 }
             }
+            this.setter = createSetterHandle(field);
 
             final Key<?> key = Key.newInstance(field.getType(), name);
             factory = container.getFactory(key);
@@ -208,9 +327,24 @@ class ContainerImpl implements Container {
             final ExternalContext<?> previous = context.getExternalContext();
             context.setExternalContext(externalContext);
             try {
-                field.set(o, factory.create(context));
+                final Object value = factory.create(context);
+                if (setter != null) {
+                    if (!isAssignable(field.getType(), value)) {
+                        // same exception as Field.set
+                        throw new IllegalArgumentException("Can not set " + field.getType().getName() + " field "
+                                + field.getDeclaringClass().getName() + "." + field.getName() + " to "
+                                + (value == null ? "null value" : value.getClass().getName()));
+                    }
+                    setter.invokeExact(o, value);
+                } else {
+                    field.set(o, value);
+                }
             } catch (IllegalAccessException e) {
                 throw new AssertionError(e);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new AssertionError(t);
             } finally {
                 context.setExternalContext(previous);
             }
@@ -270,6 +404,8 @@ class ContainerImpl implements Container {
     static class MethodInjector implements Injector {
 
         final Method method;
+        final Class<?>[] parameterTypes;
+        final MethodHandle handle;
         final ParameterInjector<?>[] parameterInjectors;
 
         public MethodInjector(ContainerImpl container, Method method, String name) throws MissingDependencyException {
@@ -287,21 +423,38 @@ class ContainerImpl implements Container {
                 }
             }
 
-            final Class<?>[] parameterTypes = method.getParameterTypes();
+            parameterTypes = method.getParameterTypes();
             if (parameterTypes.length == 0) {
                 throw new DependencyException(method + " has no parameters to inject.");
             }
             parameterInjectors = container.getParametersInjectors(
                     method, method.getParameterAnnotations(), parameterTypes, name);
+            handle = createMethodHandle(method);
         }
 
         @Override
         public void inject(InternalContext context, Object o) {
+            final Object[] parameters = getParameters(method, context, parameterInjectors);
+            if (handle == null) {
+                try {
+                    method.invoke(o, parameters);
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+                return;
+            }
             try {
-                method.invoke(o, getParameters(method, context, parameterInjectors));
-            } catch (Exception e) {
+                checkParameters(method, parameterTypes, parameters);
+            } catch (IllegalArgumentException e) {
+                // same exception chain as the reflective call above
                 throw new RuntimeException(e);
             }
+            try {
+                handle.invokeExact(o, parameters);
+            } catch (Throwable t) {
+                // same exception chain as the reflective call above
+                throw new RuntimeException(new InvocationTargetException(t));
+            }
         }
     }
 
@@ -319,6 +472,8 @@ class ContainerImpl implements Container {
         final Class<T> implementation;
         final List<Injector> injectors;
         final Constructor<T> constructor;
+        final Class<?>[] parameterTypes;
+        final MethodHandle handle;
         final ParameterInjector<?>[] parameterInjectors;
 
         ConstructorInjector(ContainerImpl container, Class<T> implementation) {
@@ -337,6 +492,8 @@ class ContainerImpl implements Container {
                             + implementation.getName() + "(" + constructor.getName() + ")", e);
                 }
             }
+            parameterTypes = constructor.getParameterTypes();
+            handle = Modifier.isAbstract(implementation.getModifiers()) ? null : createConstructorHandle(constructor);
 
             MissingDependencyException exception = null;
             Inject inject = null;
@@ -421,7 +578,7 @@ class ContainerImpl implements Container {
                 constructionContext.startConstruction();
                 try {
                     final Object[] parameters = getParameters(constructor, context, parameterInjectors);
-                    t = constructor.newInstance(parameters);
+                    t = newInstance(parameters);
                     constructionContext.setProxyDelegates(t);
                 } finally {
                     constructionContext.finishConstruction();
@@ -443,6 +600,21 @@ class ContainerImpl implements Container {
                 constructionContext.removeCurrentReference();
             }
         }
+
+        @SuppressWarnings("unchecked")
+        private T newInstance(Object[] parameters)
+                throws InstantiationException, IllegalAccessException, InvocationTargetException {
+            if (handle == null) {
+                return constructor.newInstance(parameters);
+            }
+            checkParameters(constructor, parameterTypes, parameters);
+            try {
+                return (T) (Object) handle.invokeExact(parameters);
+            } catch (Throwable t) {
+                // same exception chain as Constructor.newInstance
+                throw new InvocationTargetException(t);
+            }
+        }
     }
 
     static class ParameterInjector<T> {
@@ -196,6 +196,7 @@ public class AliasInterceptor extends AbstractInterceptor {
                 if (clearableStack) {
                     stack.getActionContext().withConversionErrors(newStack.getActionContext().getConversionErrors());
                 }
+                valueStackFactory.releaseValueStack(newStack);
             } else {
                 LOG.debug("invalid alias expression: {}", aliasesKey);
             }
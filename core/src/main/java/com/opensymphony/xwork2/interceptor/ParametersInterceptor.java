@@ -165,17 +165,14 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
     }
 
     protected void setParameters(final Object action, ValueStack stack, HttpParameters parameters) {
-        HttpParameters params;
         Map<String, Parameter> acceptableParameters;
         if (ordered) {
-            params = HttpParameters.create().withComparator(getOrderedComparator()).withParent(parameters).build();
             acceptableParameters = new TreeMap<>(getOrderedComparator());
         } else {
-            params = HttpParameters.create().withParent(parameters).build();
             acceptableParameters = new TreeMap<>();
         }
 
-        for (Map.Entry<String, Parameter> entry : params.entrySet()) {
+        for (Map.Entry<String, Parameter> entry : parameters.entrySet()) {
             String parameterName = entry.getKey();
 
             if (isAcceptableParameter(parameterName, action)) {
@@ -222,6 +219,7 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
         if (clearableStack) {
             stack.getActionContext().withConversionErrors(newStack.getActionContext().getConversionErrors());
         }
+        valueStackFactory.releaseValueStack(newStack);
 
         addParametersToContext(ActionContext.getContext(), acceptableParameters);
     }
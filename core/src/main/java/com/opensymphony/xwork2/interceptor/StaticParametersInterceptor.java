@@ -191,6 +191,7 @@ public class StaticParametersInterceptor extends AbstractInterceptor {
                  if (clearableStack) {
                      stack.getActionContext().withConversionErrors(newStack.getActionContext().getConversionErrors());
                  }
+                valueStackFactory.releaseValueStack(newStack);
 
                 if (merge)
                     addParametersToContext(ac, parameters);
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.ognl;
+
+import com.opensymphony.xwork2.config.ConfigurationException;
+import com.opensymphony.xwork2.inject.Inject;
+import org.apache.struts2.StrutsConstants;
+
+/**
+ * Default implementation of {@link OgnlCacheFactory}, builds either {@link OgnlDefaultCache} ("basic")
+ * or {@link OgnlLRUCache} ("lru") depending on "struts.ognl.expressionCacheType" constant.
+ *
+ * @param <Key>   the type of the cache key
+ * @param <Value> the type of the cached value
+ *
+ * @since 2.6
+ */
+public class DefaultOgnlCacheFactory<Key, Value> implements OgnlCacheFactory<Key, Value> {
+
+    public static final String CACHE_TYPE_BASIC = "basic";
+    public static final String CACHE_TYPE_LRU = "lru";
+
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    private String cacheType = CACHE_TYPE_BASIC;
+    private int maxSize = DEFAULT_MAX_SIZE;
+
+    @Override
+    public OgnlCache<Key, Value> buildOgnlCache() {
+        if (CACHE_TYPE_LRU.equalsIgnoreCase(cacheType)) {
+            return new OgnlLRUCache<>(maxSize);
+        }
+        return new OgnlDefaultCache<>(maxSize);
+    }
+
+    @Inject(value = StrutsConstants.STRUTS_OGNL_EXPRESSION_CACHE_TYPE, required = false)
+    public void setCacheType(String cacheType) {
+        if (!CACHE_TYPE_BASIC.equalsIgnoreCase(cacheType) && !CACHE_TYPE_LRU.equalsIgnoreCase(cacheType)) {
+            throw new ConfigurationException("Unsupported OGNL expression cache type: " + cacheType
+                    + ", use one of: " + CACHE_TYPE_BASIC + ", " + CACHE_TYPE_LRU);
+        }
+        this.cacheType = cacheType;
+    }
+
+    @Inject(value = StrutsConstants.STRUTS_OGNL_EXPRESSION_CACHE_MAXSIZE, required = false)
+    public void setMaxSize(String maxSize) {
+        this.maxSize = Integer.parseInt(maxSize);
+    }
+
+    public String getCacheType() {
+        return cacheType;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+}
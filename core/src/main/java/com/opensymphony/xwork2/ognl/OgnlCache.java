@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.ognl;
+
+/**
+ * A basic cache interface used by {@link OgnlUtil} to keep parsed OGNL expressions.
+ *
+ * @param <Key>   the type of the cache key
+ * @param <Value> the type of the cached value
+ *
+ * @since 2.6
+ */
+public interface OgnlCache<Key, Value> {
+
+    Value get(Key key);
+
+    void put(Key key, Value value);
+
+    void putIfAbsent(Key key, Value value);
+
+    int size();
+
+    void clear();
+
+    /**
+     * @return maximum number of entries kept by this cache, a value less than 1 means unbounded
+     */
+    int getMaxSize();
+
+    /**
+     * @return number of {@link #get(Object)} calls which returned a cached value
+     */
+    long getHitCount();
+
+    /**
+     * @return number of {@link #get(Object)} calls which didn't find a cached value
+     */
+    long getMissCount();
+
+    /**
+     * @return number of entries removed from the cache to keep it within {@link #getMaxSize()}
+     */
+    long getEvictionCount();
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.ognl;
+
+/**
+ * Used by {@link OgnlUtil} to create the cache of parsed OGNL expressions, implement this interface and register
+ * it using "struts.ognl.expressionCacheFactory" constant to provide your own cache implementation.
+ *
+ * @param <Key>   the type of the cache key
+ * @param <Value> the type of the cached value
+ *
+ * @since 2.6
+ */
+public interface OgnlCacheFactory<Key, Value> {
+
+    /**
+     * Builds a new, empty cache instance
+     *
+     * @return a new cache
+     */
+    OgnlCache<Key, Value> buildOgnlCache();
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.ognl;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Basic OGNL cache implementation backed by a {@link ConcurrentHashMap}. When the number of entries exceeds
+ * the max size the whole cache is flushed, which keeps reads lock-free at the price of re-parsing hot expressions.
+ * Also used as the bounded cache of other lookups done per request (e.g. type converters, parsed texts), the
+ * entries aren't serialized with the cache.
+ *
+ * @param <Key>   the type of the cache key
+ * @param <Value> the type of the cached value
+ *
+ * @since 2.6
+ */
+public class OgnlDefaultCache<Key, Value> implements OgnlCache<Key, Value>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int maxSize;
+
+    private transient ConcurrentMap<Key, Value> ognlCache;
+    private transient LongAdder hitCount;
+    private transient LongAdder missCount;
+    private transient LongAdder evictionCount;
+
+    public OgnlDefaultCache(int maxSize) {
+        this.maxSize = maxSize;
+        init();
+    }
+
+    private void init() {
+        ognlCache = new ConcurrentHashMap<>();
+        hitCount = new LongAdder();
+        missCount = new LongAdder();
+        evictionCount = new LongAdder();
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        init();
+    }
+
+    @Override
+    public Value get(Key key) {
+        Value value = ognlCache.get(key);
+        if (value == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Key key, Value value) {
+        ognlCache.put(key, value);
+        clearIfOverflowed();
+    }
+
+    @Override
+    public void putIfAbsent(Key key, Value value) {
+        if (ognlCache.putIfAbsent(key, value) == null) {
+            clearIfOverflowed();
+        }
+    }
+
+    @Override
+    public int size() {
+        return ognlCache.size();
+    }
+
+    @Override
+    public void clear() {
+        ognlCache.clear();
+    }
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    private void clearIfOverflowed() {
+        if (maxSize > 0) {
+            int size = ognlCache.size();
+            if (size > maxSize) {
+                ognlCache.clear();
+                evictionCount.add(size);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.ognl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded OGNL cache implementation which evicts the least recently used entries once the max size is exceeded,
+ * frequently used expressions stay parsed while the memory footprint of the cache remains constant.
+ * <p>
+ * The cache is backed by a {@link ConcurrentHashMap}, reads are lock-free and only record the time of the access
+ * in the entry. When an insertion exceeds the max size, one thread evicts the least recently used entries, plus a
+ * tenth of the max size to not sort the entries again on the next insertion. Concurrent insertions don't wait for
+ * the eviction, so the cache may briefly hold a few more entries than its max size.
+ * </p>
+ *
+ * @param <Key>   the type of the cache key
+ * @param <Value> the type of the cached value
+ *
+ * @since 2.6
+ */
+public class OgnlLRUCache<Key, Value> implements OgnlCache<Key, Value> {
+
+    private final ConcurrentMap<Key, CacheEntry<Value>> ognlLRUCache;
+    private final int maxSize;
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public OgnlLRUCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Max size of LRU cache must be greater than 0, but was: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.ognlLRUCache = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Value get(Key key) {
+        CacheEntry<Value> entry = ognlLRUCache.get(key);
+        if (entry == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        entry.accessed = System.nanoTime();
+        hitCount.incrementAndGet();
+        return entry.value;
+    }
+
+    @Override
+    public void put(Key key, Value value) {
+        ognlLRUCache.put(key, new CacheEntry<>(value));
+        evictIfOverflowed();
+    }
+
+    @Override
+    public void putIfAbsent(Key key, Value value) {
+        if (ognlLRUCache.putIfAbsent(key, new CacheEntry<>(value)) == null) {
+            evictIfOverflowed();
+        }
+    }
+
+    @Override
+    public int size() {
+        return ognlLRUCache.size();
+    }
+
+    @Override
+    public void clear() {
+        ognlLRUCache.clear();
+    }
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    @Override
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    private void evictIfOverflowed() {
+        if (ognlLRUCache.size() <= maxSize || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            int excess = ognlLRUCache.size() - maxSize;
+            if (excess <= 0) {
+                return;
+            }
+            List<Map.Entry<Key, CacheEntry<Value>>> entries = new ArrayList<>(ognlLRUCache.entrySet());
+            entries.sort(Comparator.comparingLong(entry -> entry.getValue().accessed));
+            int toEvict = Math.min(entries.size(), excess + maxSize / 10);
+            for (int i = 0; i < toEvict; i++) {
+                Map.Entry<Key, CacheEntry<Value>> entry = entries.get(i);
+                if (ognlLRUCache.remove(entry.getKey(), entry.getValue())) {
+                    evictionCount.incrementAndGet();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static final class CacheEntry<Value> {
+
+        private final Value value;
+        private volatile long accessed = System.nanoTime();
+
+        CacheEntry(Value value) {
+            this.value = value;
+        }
+    }
+
+}
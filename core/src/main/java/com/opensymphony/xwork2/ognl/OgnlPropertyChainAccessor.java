@@ -0,0 +1,326 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.ognl;
+
+import com.opensymphony.xwork2.conversion.impl.XWorkConverter;
+import com.opensymphony.xwork2.util.CompoundRoot;
+import com.opensymphony.xwork2.util.reflection.ReflectionContextState;
+import ognl.MemberAccess;
+import ognl.MethodFailedException;
+import ognl.ObjectPropertyAccessor;
+import ognl.OgnlContext;
+import ognl.OgnlException;
+import ognl.OgnlRuntime;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.beans.IntrospectionException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled form of a simple OGNL property chain (e.g. "user.address.city") evaluated against a {@link CompoundRoot}.
+ *
+ * After the expression has been evaluated a given number of times it is bound to the concrete shape of the stack
+ * (the classes of the objects above and including the one owning the first property) and every property is
+ * resolved to a getter {@link MethodHandle}. Subsequent evaluations against a stack of the same shape invoke
+ * the getters directly instead of walking the OGNL tree and the {@link com.opensymphony.xwork2.ognl.accessor.CompoundRootAccessor}.
+ *
+ * Whenever the stack shape doesn't match, an intermediate value is null or the member access denies a getter,
+ * {@link #NOT_RESOLVED} is returned and the caller falls back to interpreted OGNL evaluation, so all the error
+ * handling and security checks stay with OGNL.
+ *
+ * The member access checks of the getters are remembered per class of the objects they were called on and per
+ * {@link SecurityMemberAccess.AccessPolicy}, so they are shared by the value stacks of all requests using the same
+ * settings. Other {@link MemberAccess} implementations are checked again for each instance.
+ *
+ * A chain which cannot be compiled against the current stack (e.g. a map is pushed above the property owner) is
+ * compiled again after another threshold of evaluations, up to {@link #MAX_COMPILATION_ATTEMPTS} times.
+ *
+ * @since 2.6
+ */
+public class OgnlPropertyChainAccessor {
+
+    private static final Logger LOG = LogManager.getLogger(OgnlPropertyChainAccessor.class);
+
+    /**
+     * Returned when the compiled chain cannot be used to evaluate the expression
+     */
+    public static final Object NOT_RESOLVED = new Object();
+
+    private static final Pattern PROPERTY_CHAIN = Pattern.compile("[a-zA-Z_$][\\w$]*(\\.[a-zA-Z_$][\\w$]*)*");
+
+    private static final Set<String> RESERVED_NAMES = new HashSet<>(Arrays.asList(
+            "top", "true", "false", "null", "this", "new", "and", "or", "not", "in", "instanceof",
+            "eq", "neq", "lt", "lte", "gt", "gte", "shl", "shr", "ushr", "bor", "xor", "band"
+    ));
+
+    /**
+     * Number of failed compilations after which the expression is always evaluated by OGNL
+     */
+    static final int MAX_COMPILATION_ATTEMPTS = 3;
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final String expression;
+    private final String[] properties;
+    private final int compilationThreshold;
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    private volatile Chain chain;
+    private volatile boolean uncompilable;
+    private int failedCompilations;
+
+    OgnlPropertyChainAccessor(String expression, int compilationThreshold) {
+        this.expression = expression;
+        this.properties = expression.split("\\.");
+        this.compilationThreshold = compilationThreshold;
+        this.uncompilable = !isPropertyChain(expression);
+    }
+
+    /**
+     * @param expression an OGNL expression
+     * @return true if the expression is a chain of plain property names which can be compiled
+     */
+    public static boolean isPropertyChain(String expression) {
+        if (expression == null || !PROPERTY_CHAIN.matcher(expression).matches()) {
+            return false;
+        }
+        for (String property : expression.split("\\.")) {
+            if (RESERVED_NAMES.contains(property)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    public boolean isCompiled() {
+        return chain != null;
+    }
+
+    /**
+     * Evaluates the property chain against the given root
+     *
+     * @param context OGNL context of the current evaluation
+     * @param root    the value stack root
+     * @return value of the expression or {@link #NOT_RESOLVED} if it must be evaluated by OGNL
+     * @throws OgnlException when one of the getters failed
+     */
+    public Object getValue(OgnlContext context, CompoundRoot root) throws OgnlException {
+        Chain current = chain;
+        if (current == null) {
+            if (uncompilable || evaluations.incrementAndGet() < compilationThreshold) {
+                return NOT_RESOLVED;
+            }
+            current = compile(context, root);
+            if (current == null) {
+                return NOT_RESOLVED;
+            }
+        }
+        return current.getValue(context, root);
+    }
+
+    private synchronized Chain compile(OgnlContext context, CompoundRoot root) {
+        if (chain != null || uncompilable || evaluations.get() < compilationThreshold) {
+            // compiled, given up or just failed in another thread
+            return chain;
+        }
+        try {
+            Chain compiled = Chain.create(context, root, properties);
+            if (compiled == null) {
+                LOG.debug("Expression [{}] cannot be compiled for the current stack", expression);
+                compilationFailed();
+            } else {
+                LOG.debug("Compiled expression [{}] for stack shape {}", expression, Arrays.toString(compiled.stackShape));
+                chain = compiled;
+            }
+        } catch (Exception e) {
+            LOG.debug("Could not compile expression [{}]", expression, e);
+            compilationFailed();
+        }
+        return chain;
+    }
+
+    private void compilationFailed() {
+        if (++failedCompilations >= MAX_COMPILATION_ATTEMPTS) {
+            LOG.debug("Expression [{}] failed to compile {} times, it will be evaluated by OGNL", expression, failedCompilations);
+            uncompilable = true;
+        } else {
+            // tries again after another threshold of evaluations, the stack may look different then
+            evaluations.set(0);
+        }
+    }
+
+    private static final class Chain {
+
+        private final Class<?>[] stackShape;
+        private final String[] properties;
+        private final Method[] getters;
+        private final MethodHandle[] handles;
+
+        private volatile Validation validation;
+
+        private Chain(Class<?>[] stackShape, String[] properties, Method[] getters, MethodHandle[] handles) {
+            this.stackShape = stackShape;
+            this.properties = properties;
+            this.getters = getters;
+            this.handles = handles;
+        }
+
+        static Chain create(OgnlContext context, CompoundRoot root, String[] properties) throws OgnlException, IntrospectionException, IllegalAccessException {
+            int depth = -1;
+            for (int i = 0; i < root.size(); i++) {
+                Object o = root.get(i);
+                if (o == null) {
+                    continue;
+                }
+                // maps above or at the owner resolve properties by their content, not by their class
+                if (o instanceof Map) {
+                    return null;
+                }
+                if (OgnlRuntime.hasGetProperty(context, o, properties[0])) {
+                    depth = i;
+                    break;
+                }
+            }
+            if (depth < 0) {
+                return null;
+            }
+
+            Class<?>[] stackShape = new Class<?>[depth + 1];
+            for (int i = 0; i <= depth; i++) {
+                Object o = root.get(i);
+                stackShape[i] = o == null ? null : o.getClass();
+            }
+
+            Method[] getters = new Method[properties.length];
+            MethodHandle[] handles = new MethodHandle[properties.length];
+            Class<?> type = stackShape[depth];
+            for (int i = 0; i < properties.length; i++) {
+                if (!isBeanAccessible(type)) {
+                    return null;
+                }
+                Method getter = OgnlRuntime.getGetMethod(context, type, properties[i]);
+                if (getter == null || Modifier.isStatic(getter.getModifiers()) || !Modifier.isPublic(getter.getModifiers())
+                        || !Modifier.isPublic(getter.getDeclaringClass().getModifiers())) {
+                    return null;
+                }
+                getters[i] = getter;
+                handles[i] = MethodHandles.publicLookup().unreflect(getter).asType(GETTER_TYPE);
+                type = getter.getReturnType();
+            }
+
+            return new Chain(stackShape, properties, getters, handles);
+        }
+
+        private static boolean isBeanAccessible(Class<?> type) throws OgnlException {
+            return !type.isPrimitive() && !type.isArray() && !Map.class.isAssignableFrom(type)
+                    && OgnlRuntime.getPropertyAccessor(type) instanceof ObjectPropertyAccessor;
+        }
+
+        Object getValue(OgnlContext context, CompoundRoot root) throws OgnlException {
+            int depth = stackShape.length - 1;
+            if (root.size() <= depth) {
+                return NOT_RESOLVED;
+            }
+            for (int i = 0; i <= depth; i++) {
+                Object o = root.get(i);
+                if ((o == null ? null : o.getClass()) != stackShape[i]) {
+                    return NOT_RESOLVED;
+                }
+            }
+
+            MemberAccess memberAccess = context.getMemberAccess();
+            Object accessKey = memberAccess instanceof SecurityMemberAccess
+                    ? ((SecurityMemberAccess) memberAccess).getAccessPolicy()
+                    : memberAccess;
+            Validation current = validation;
+            Class<?>[] targetClasses = null;
+            if (current != null && current.accessKey != accessKey) {
+                if (current.accessKey.equals(accessKey)) {
+                    // same policy of another stack, remembered for a quicker check next time
+                    validation = current = new Validation(accessKey, current.targetClasses);
+                } else {
+                    current = null;
+                }
+            }
+
+            Object target = root.get(depth);
+            for (int i = 0; i < handles.length; i++) {
+                if (target == null) {
+                    return NOT_RESOLVED;
+                }
+                Class<?> targetClass = target.getClass();
+                if (current == null || current.targetClasses[i] != targetClass) {
+                    if (!isBeanAccessible(targetClass) || !memberAccess.isAccessible(context, target, getters[i], properties[i])) {
+                        return NOT_RESOLVED;
+                    }
+                    if (targetClasses == null) {
+                        targetClasses = current == null ? new Class<?>[handles.length] : current.targetClasses.clone();
+                    }
+                }
+                if (targetClasses != null) {
+                    targetClasses[i] = targetClass;
+                }
+
+                Object value;
+                try {
+                    value = handles[i].invokeExact(target);
+                } catch (Throwable t) {
+                    throw new MethodFailedException(target, getters[i].getName(), t);
+                }
+
+                context.put(XWorkConverter.LAST_BEAN_CLASS_ACCESSED, targetClass);
+                context.put(XWorkConverter.LAST_BEAN_PROPERTY_ACCESSED, properties[i]);
+                ReflectionContextState.updateCurrentPropertyPath(context, properties[i]);
+                target = value;
+            }
+
+            if (targetClasses != null) {
+                validation = new Validation(accessKey, targetClasses);
+            }
+            return target;
+        }
+    }
+
+    private static final class Validation {
+
+        private final Object accessKey;
+        private final Class<?>[] targetClasses;
+
+        private Validation(Object accessKey, Class<?>[] targetClasses) {
+            this.accessKey = accessKey;
+            this.targetClasses = targetClasses;
+        }
+    }
+
+}
@@ -57,13 +57,16 @@ public class OgnlUtil {
     // Flag used to reduce flooding logs with WARNs about using DevMode excluded packages
     private final AtomicBoolean warnReported = new AtomicBoolean(false);
 
-    private final ConcurrentMap<String, Object> expressions = new ConcurrentHashMap<>();
+    private OgnlCache<String, Object> expressions = new DefaultOgnlCacheFactory<String, Object>().buildOgnlCache();
+    private OgnlCache<String, Object> propertyChains = new DefaultOgnlCacheFactory<String, Object>().buildOgnlCache();
     private final ConcurrentMap<Class<?>, BeanInfo> beanInfoCache = new ConcurrentHashMap<>();
     private TypeConverter defaultConverter;
 
     private boolean devMode;
     private boolean enableExpressionCache = true;
     private boolean enableEvalExpression;
+    private boolean enableExpressionCompilation;
+    private int expressionCompilationThreshold = 100;
 
     private Set<Class<?>> excludedClasses;
     private Set<Pattern> excludedPackageNamePatterns;
@@ -103,6 +106,22 @@ public class OgnlUtil {
         enableExpressionCache = BooleanUtils.toBoolean(cache);
     }
 
+    @Inject(required = false)
+    protected void setExpressionCacheFactory(OgnlCacheFactory<String, Object> expressionCacheFactory) {
+        this.expressions = expressionCacheFactory.buildOgnlCache();
+        this.propertyChains = expressionCacheFactory.buildOgnlCache();
+    }
+
+    @Inject(value = StrutsConstants.STRUTS_ENABLE_OGNL_EXPRESSION_COMPILATION, required = false)
+    protected void setEnableExpressionCompilation(String enableExpressionCompilation) {
+        this.enableExpressionCompilation = BooleanUtils.toBoolean(enableExpressionCompilation);
+    }
+
+    @Inject(value = StrutsConstants.STRUTS_OGNL_EXPRESSION_COMPILATION_THRESHOLD, required = false)
+    protected void setExpressionCompilationThreshold(String expressionCompilationThreshold) {
+        this.expressionCompilationThreshold = Integer.parseInt(expressionCompilationThreshold);
+    }
+
     @Inject(value = StrutsConstants.STRUTS_ENABLE_OGNL_EVAL_EXPRESSION, required = false)
     protected void setEnableEvalExpression(String evalExpression) {
         this.enableEvalExpression = BooleanUtils.toBoolean(evalExpression);
@@ -274,6 +293,7 @@ public class OgnlUtil {
      */
     public void clearExpressionCache() {
         expressions.clear();
+        propertyChains.clear();
     }
 
     /**
@@ -287,6 +307,39 @@ public class OgnlUtil {
         return expressions.size();
     }
 
+    /**
+     * Number of lookups which found an already parsed expression in the expression cache.
+     *
+     * @return expression cache hit count
+     *
+     * @since 2.6
+     */
+    public long expressionCacheHitCount() {
+        return expressions.getHitCount();
+    }
+
+    /**
+     * Number of lookups which had to parse the expression as it wasn't found in the expression cache.
+     *
+     * @return expression cache miss count
+     *
+     * @since 2.6
+     */
+    public long expressionCacheMissCount() {
+        return expressions.getMissCount();
+    }
+
+    /**
+     * Number of parsed expressions removed from the expression cache to keep it within its max size.
+     *
+     * @return expression cache eviction count
+     *
+     * @since 2.6
+     */
+    public long expressionCacheEvictionCount() {
+        return expressions.getEvictionCount();
+    }
+
     /**
      * Provide a mechanism to clear the BeanInfo cache.  May be utilized by applications
      * that request BeanInfo and/or PropertyDescriptors for many unique classes or objects over time
@@ -513,6 +566,12 @@ public class OgnlUtil {
     }
 
     public Object getValue(final String name, final Map<String, Object> context, final Object root) throws OgnlException {
+        if (enableExpressionCompilation && root instanceof CompoundRoot && context instanceof OgnlContext) {
+            Object value = getCompiledValue(name, (OgnlContext) context, (CompoundRoot) root);
+            if (value != OgnlPropertyChainAccessor.NOT_RESOLVED) {
+                return value;
+            }
+        }
         return compileAndExecute(name, context, tree -> Ognl.getValue(tree, context, root));
     }
 
@@ -521,9 +580,43 @@ public class OgnlUtil {
     }
 
     public Object getValue(final String name, final Map<String, Object> context, final Object root, final Class<?> resultType) throws OgnlException {
+        if (enableExpressionCompilation && root instanceof CompoundRoot && context instanceof OgnlContext) {
+            Object value = getCompiledValue(name, (OgnlContext) context, (CompoundRoot) root);
+            if (value != OgnlPropertyChainAccessor.NOT_RESOLVED) {
+                if (resultType != null) {
+                    value = Ognl.getTypeConverter(context).convertValue(context, root, null, null, value, resultType);
+                }
+                return value;
+            }
+        }
         return compileAndExecute(name, context, tree -> Ognl.getValue(tree, context, root, resultType));
     }
 
+    /**
+     * Evaluates simple property chains with accessors compiled for the current shape of the value stack,
+     * see {@link OgnlPropertyChainAccessor}.
+     */
+    private Object getCompiledValue(String name, OgnlContext context, CompoundRoot root) throws OgnlException {
+        if (name == null) {
+            return OgnlPropertyChainAccessor.NOT_RESOLVED;
+        }
+        OgnlPropertyChainAccessor accessor = (OgnlPropertyChainAccessor) propertyChains.get(name);
+        if (accessor == null) {
+            accessor = new OgnlPropertyChainAccessor(name, expressionCompilationThreshold);
+            propertyChains.putIfAbsent(name, accessor);
+        }
+        return accessor.getValue(context, root);
+    }
+
+    /**
+     * @param expression an OGNL expression
+     * @return true if the expression is evaluated by a compiled {@link OgnlPropertyChainAccessor}
+     */
+    boolean isCompiledPropertyChain(String expression) {
+        OgnlPropertyChainAccessor accessor = (OgnlPropertyChainAccessor) propertyChains.get(expression);
+        return accessor != null && accessor.isCompiled();
+    }
+
 
     public Object compile(String expression) throws OgnlException {
         return compile(expression, null);
@@ -37,6 +37,7 @@ import org.apache.struts2.StrutsConstants;
 import org.apache.struts2.StrutsException;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -472,6 +473,27 @@ public class OgnlValueStack implements Serializable, ValueStack, ClearableValueS
     }
 
 
+    /**
+     * Drops everything a released stack refers to, see {@link OgnlValueStackFactory#releaseValueStack(ValueStack)}
+     */
+    protected void clear() {
+        root.clear();
+        clearContextValues();
+        securityMemberAccess.setAcceptProperties(Collections.<Pattern>emptySet());
+        securityMemberAccess.setExcludeProperties(Collections.<Pattern>emptySet());
+        defaultType = null;
+        overrides = null;
+    }
+
+    /**
+     * Prepares a cleared stack to be used on top of the given stack, like a stack created with
+     * {@link #OgnlValueStack(ValueStack, XWorkConverter, CompoundRootAccessor, boolean, boolean)}
+     */
+    protected void reuse(ValueStack vs) {
+        root.addAll(vs.getRoot());
+        context.put(VALUE_STACK, this);
+    }
+
     public void clearContextValues() {
         //this is an OGNL ValueStack so the context will be an OgnlContext
         //it would be better to make context of type OgnlContext
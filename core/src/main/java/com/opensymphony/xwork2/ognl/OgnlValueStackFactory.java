@@ -18,6 +18,7 @@
  */
 package com.opensymphony.xwork2.ognl;
 
+import com.opensymphony.xwork2.ActionContext;
 import com.opensymphony.xwork2.TextProvider;
 import com.opensymphony.xwork2.conversion.NullHandler;
 import com.opensymphony.xwork2.conversion.impl.XWorkConverter;
@@ -37,9 +38,17 @@ import org.apache.struts2.StrutsConstants;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 /**
  * Creates an Ognl value stack
+ * <p>
+ * When {@link StrutsConstants#STRUTS_OGNL_VALUE_STACK_POOL_SIZE} is greater than 0, stacks passed to
+ * {@link #releaseValueStack(ValueStack)} are cleared and reused by {@link #createValueStack(ValueStack)}.
+ * In devMode releasing a stack which is still the current one or which has already been released is reported
+ * and the stack isn't recycled.
+ * </p>
  */
 public class OgnlValueStackFactory implements ValueStackFactory {
 
@@ -50,6 +59,9 @@ public class OgnlValueStackFactory implements ValueStackFactory {
     protected TextProvider textProvider;
     protected Container container;
 
+    private BlockingQueue<OgnlValueStack> releasedStacks;
+    private boolean devMode;
+
     @Inject
     protected void setXWorkConverter(XWorkConverter converter) {
         this.xworkConverter = converter;
@@ -70,7 +82,27 @@ public class OgnlValueStackFactory implements ValueStackFactory {
             .getValueStack();
     }
 
+    @Inject(value = StrutsConstants.STRUTS_OGNL_VALUE_STACK_POOL_SIZE, required = false)
+    protected void setValueStackPoolSize(String poolSize) {
+        int size = Integer.parseInt(poolSize);
+        this.releasedStacks = size > 0 ? new ArrayBlockingQueue<OgnlValueStack>(size) : null;
+    }
+
+    @Inject(value = StrutsConstants.STRUTS_DEVMODE, required = false)
+    protected void setDevMode(String devMode) {
+        this.devMode = BooleanUtils.toBoolean(devMode);
+    }
+
     public ValueStack createValueStack(ValueStack stack) {
+        OgnlValueStack released = releasedStacks == null ? null : releasedStacks.poll();
+        if (released != null) {
+            released.reuse(stack);
+            return released.getActionContext()
+                .withContainer(container)
+                .withValueStack(released)
+                .getValueStack();
+        }
+
         ValueStack result = new OgnlValueStack(stack, xworkConverter, compoundRootAccessor,
             containerAllowsStaticMethodAccess(), containerAllowsStaticFieldAccess());
         container.inject(result);
@@ -80,6 +112,33 @@ public class OgnlValueStackFactory implements ValueStackFactory {
             .getValueStack();
     }
 
+    @Override
+    public void releaseValueStack(ValueStack stack) {
+        if (releasedStacks == null || stack == null || stack.getClass() != OgnlValueStack.class) {
+            return;
+        }
+
+        if (devMode) {
+            ActionContext actionContext = ActionContext.getContext();
+            if (actionContext != null && actionContext.getValueStack() == stack) {
+                LOG.warn("Value stack [{}] is released but it is still used by the current action context, it won't be recycled", stack);
+                return;
+            }
+            if (releasedStacks.contains(stack)) {
+                LOG.warn("Value stack [{}] has already been released, it must not be used anymore", stack);
+                return;
+            }
+        }
+
+        OgnlValueStack ognlStack = (OgnlValueStack) stack;
+        if (ognlStack.ognlUtil != container.getInstance(OgnlUtil.class)) {
+            // created by another container
+            return;
+        }
+        ognlStack.clear();
+        releasedStacks.offer(ognlStack);
+    }
+
     @Inject
     protected void setContainer(Container container) throws ClassNotFoundException {
         Set<String> names = container.getInstanceNames(PropertyAccessor.class);
@@ -29,6 +29,7 @@ import java.lang.reflect.Member;
 import java.lang.reflect.Modifier;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -49,6 +50,7 @@ public class SecurityMemberAccess implements MemberAccess {
     private Set<Pattern> excludedPackageNamePatterns = Collections.emptySet();
     private Set<String> excludedPackageNames = Collections.emptySet();
     private boolean disallowProxyMemberAccess;
+    private volatile AccessPolicy accessPolicy;
 
     /**
      * SecurityMemberAccess
@@ -291,25 +293,99 @@ public class SecurityMemberAccess implements MemberAccess {
 
     public void setExcludeProperties(Set<Pattern> excludeProperties) {
         this.excludeProperties = excludeProperties;
+        this.accessPolicy = null;
     }
 
     public void setAcceptProperties(Set<Pattern> acceptedProperties) {
         this.acceptProperties = acceptedProperties;
+        this.accessPolicy = null;
     }
 
     public void setExcludedClasses(Set<Class<?>> excludedClasses) {
         this.excludedClasses = excludedClasses;
+        this.accessPolicy = null;
     }
 
     public void setExcludedPackageNamePatterns(Set<Pattern> excludedPackageNamePatterns) {
         this.excludedPackageNamePatterns = excludedPackageNamePatterns;
+        this.accessPolicy = null;
     }
 
     public void setExcludedPackageNames(Set<String> excludedPackageNames) {
         this.excludedPackageNames = excludedPackageNames;
+        this.accessPolicy = null;
     }
 
     public void setDisallowProxyMemberAccess(boolean disallowProxyMemberAccess) {
         this.disallowProxyMemberAccess = disallowProxyMemberAccess;
+        this.accessPolicy = null;
+    }
+
+    /**
+     * Returns the settings the access decisions depend on, member accesses with equal policies allow access to the
+     * same members of the same classes, e.g. the member accesses of different value stacks. A new policy is returned
+     * whenever a setting changes.
+     *
+     * @return the current access policy
+     */
+    AccessPolicy getAccessPolicy() {
+        AccessPolicy policy = accessPolicy;
+        if (policy == null) {
+            policy = new AccessPolicy(this);
+            accessPolicy = policy;
+        }
+        return policy;
+    }
+
+    static final class AccessPolicy {
+
+        private final Class<?> memberAccessClass;
+        private final boolean allowStaticFieldAccess;
+        private final boolean allowStaticMethodAccess;
+        private final Set<Pattern> excludeProperties;
+        private final Set<Pattern> acceptProperties;
+        private final Set<Class<?>> excludedClasses;
+        private final Set<Pattern> excludedPackageNamePatterns;
+        private final Set<String> excludedPackageNames;
+        private final boolean disallowProxyMemberAccess;
+
+        private AccessPolicy(SecurityMemberAccess memberAccess) {
+            this.memberAccessClass = memberAccess.getClass();
+            this.allowStaticFieldAccess = memberAccess.allowStaticFieldAccess;
+            this.allowStaticMethodAccess = memberAccess.allowStaticMethodAccess;
+            this.excludeProperties = memberAccess.excludeProperties;
+            this.acceptProperties = memberAccess.acceptProperties;
+            this.excludedClasses = memberAccess.excludedClasses;
+            this.excludedPackageNamePatterns = memberAccess.excludedPackageNamePatterns;
+            this.excludedPackageNames = memberAccess.excludedPackageNames;
+            this.disallowProxyMemberAccess = memberAccess.disallowProxyMemberAccess;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof AccessPolicy)) {
+                return false;
+            }
+            AccessPolicy that = (AccessPolicy) o;
+            return memberAccessClass == that.memberAccessClass
+                    && allowStaticFieldAccess == that.allowStaticFieldAccess
+                    && allowStaticMethodAccess == that.allowStaticMethodAccess
+                    && disallowProxyMemberAccess == that.disallowProxyMemberAccess
+                    && Objects.equals(excludeProperties, that.excludeProperties)
+                    && Objects.equals(acceptProperties, that.acceptProperties)
+                    && Objects.equals(excludedClasses, that.excludedClasses)
+                    && Objects.equals(excludedPackageNamePatterns, that.excludedPackageNamePatterns)
+                    && Objects.equals(excludedPackageNames, that.excludedPackageNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(memberAccessClass, allowStaticFieldAccess, allowStaticMethodAccess,
+                    disallowProxyMemberAccess, excludeProperties, acceptProperties, excludedClasses,
+                    excludedPackageNamePatterns, excludedPackageNames);
+        }
     }
 }
@@ -19,6 +19,9 @@
 package com.opensymphony.xwork2.ognl.accessor;
 
 import com.opensymphony.xwork2.inject.Inject;
+import com.opensymphony.xwork2.ognl.DefaultOgnlCacheFactory;
+import com.opensymphony.xwork2.ognl.OgnlCache;
+import com.opensymphony.xwork2.ognl.OgnlDefaultCache;
 import com.opensymphony.xwork2.ognl.OgnlValueStack;
 import com.opensymphony.xwork2.util.CompoundRoot;
 import com.opensymphony.xwork2.util.ValueStack;
@@ -31,6 +34,7 @@ import org.apache.struts2.StrutsException;
 
 import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -63,6 +67,8 @@ public class CompoundRootAccessor implements PropertyAccessor, MethodAccessor, C
     private final static Logger LOG = LogManager.getLogger(CompoundRootAccessor.class);
     private final static Class[] EMPTY_CLASS_ARRAY = new Class[0];
     private static Map<MethodCall, Boolean> invalidMethods = new ConcurrentHashMap<>();
+    private static final OgnlCache<PropertyLookup, Integer> propertyDepths =
+            new OgnlDefaultCache<>(DefaultOgnlCacheFactory.DEFAULT_MAX_SIZE);
     private boolean devMode;
 
     @Inject(StrutsConstants.STRUTS_DEVMODE)
@@ -74,7 +80,8 @@ public class CompoundRootAccessor implements PropertyAccessor, MethodAccessor, C
         CompoundRoot root = (CompoundRoot) target;
         OgnlContext ognlContext = (OgnlContext) context;
 
-        for (Object o : root) {
+        for (int i = findPropertyDepth(ognlContext, root, name, false); i < root.size(); i++) {
+            Object o = root.get(i);
             if (o == null) {
                 continue;
             }
@@ -134,7 +141,8 @@ public class CompoundRootAccessor implements PropertyAccessor, MethodAccessor, C
                 }
             }
 
-            for (Object o : root) {
+            for (int i = findPropertyDepth(ognlContext, root, name, true); i < root.size(); i++) {
+                Object o = root.get(i);
                 if (o == null) {
                     continue;
                 }
@@ -163,6 +171,48 @@ public class CompoundRootAccessor implements PropertyAccessor, MethodAccessor, C
         }
     }
 
+    /**
+     * Returns the depth of the first object in the root which may own the property, objects above it cannot provide
+     * the property whatever the member access is. The depth is remembered per sequence of classes in the root, the
+     * objects from that depth on are still checked as usual.
+     */
+    private int findPropertyDepth(OgnlContext context, CompoundRoot root, Object name, boolean read) {
+        Class[] shape = new Class[root.size()];
+        for (int i = 0; i < shape.length; i++) {
+            Object o = root.get(i);
+            shape[i] = o == null ? null : o.getClass();
+        }
+
+        PropertyLookup lookup = new PropertyLookup(shape, name, read);
+        Integer depth = propertyDepths.get(lookup);
+        if (depth == null) {
+            depth = shape.length;
+            for (int i = 0; i < shape.length; i++) {
+                if (shape[i] != null && mayHaveProperty(context, shape[i], String.valueOf(name), read)) {
+                    depth = i;
+                    break;
+                }
+            }
+            propertyDepths.put(lookup, depth);
+        }
+        return depth;
+    }
+
+    /**
+     * @return false only if the class has neither an accessor nor a field for the property
+     */
+    private boolean mayHaveProperty(OgnlContext context, Class clazz, String name, boolean read) {
+        if (Map.class.isAssignableFrom(clazz)) {
+            return true;
+        }
+        try {
+            Method accessor = read ? OgnlRuntime.getGetMethod(context, clazz, name) : OgnlRuntime.getSetMethod(context, clazz, name);
+            return accessor != null || OgnlRuntime.getField(clazz, name) != null;
+        } catch (IntrospectionException | OgnlException e) {
+            return true;
+        }
+    }
+
     public Object callMethod(Map context, Object target, String name, Object[] objects) throws MethodFailedException {
         CompoundRoot root = (CompoundRoot) target;
 
@@ -331,4 +381,30 @@ public class CompoundRootAccessor implements PropertyAccessor, MethodAccessor, C
             return hash;
         }
     }
+
+    static class PropertyLookup {
+        Class[] shape;
+        Object name;
+        boolean read;
+        int hash;
+
+        PropertyLookup(Class[] shape, Object name, boolean read) {
+            this.shape = shape;
+            this.name = name;
+            this.read = read;
+            this.hash = 31 * Arrays.hashCode(shape) + Objects.hashCode(name) + (read ? 1 : 0);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            PropertyLookup lookup = (CompoundRootAccessor.PropertyLookup) obj;
+
+            return (lookup.read == read && Objects.equals(lookup.name, name) && Arrays.equals(lookup.shape, shape));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
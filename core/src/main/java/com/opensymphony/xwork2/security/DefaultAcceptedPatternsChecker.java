@@ -39,6 +39,7 @@ public class DefaultAcceptedPatternsChecker implements AcceptedPatternsChecker {
     };
 
     private Set<Pattern> acceptedPatterns;
+    private PatternSetMatcher acceptedMatcher;
 
     public DefaultAcceptedPatternsChecker() {
         setAcceptedPatterns(ACCEPTED_PATTERNS);
@@ -55,6 +56,7 @@ public class DefaultAcceptedPatternsChecker implements AcceptedPatternsChecker {
             }
         } finally {
             acceptedPatterns = Collections.unmodifiableSet(acceptedPatterns);
+            acceptedMatcher = PatternSetMatcher.forPatterns(acceptedPatterns);
         }
     }
 
@@ -68,6 +70,7 @@ public class DefaultAcceptedPatternsChecker implements AcceptedPatternsChecker {
             }
         } finally {
             acceptedPatterns = Collections.unmodifiableSet(acceptedPatterns);
+            acceptedMatcher = PatternSetMatcher.forPatterns(acceptedPatterns);
         }
     }
 
@@ -97,16 +100,16 @@ public class DefaultAcceptedPatternsChecker implements AcceptedPatternsChecker {
             }
         } finally {
             acceptedPatterns = Collections.unmodifiableSet(acceptedPatterns);
+            acceptedMatcher = PatternSetMatcher.forPatterns(acceptedPatterns);
         }
     }
 
     @Override
     public IsAccepted isAccepted(String value) {
-        for (Pattern acceptedPattern : acceptedPatterns) {
-            if (acceptedPattern.matcher(value).matches()) {
-                LOG.trace("[{}] matches accepted pattern [{}]", value, acceptedPattern);
-                return IsAccepted.yes(acceptedPattern.toString());
-            }
+        Pattern acceptedPattern = acceptedMatcher.match(value);
+        if (acceptedPattern != null) {
+            LOG.trace("[{}] matches accepted pattern [{}]", value, acceptedPattern);
+            return IsAccepted.yes(acceptedPattern.toString());
         }
         return IsAccepted.no(acceptedPatterns.toString());
     }
@@ -41,6 +41,7 @@ public class DefaultExcludedPatternsChecker implements ExcludedPatternsChecker {
     };
 
     private Set<Pattern> excludedPatterns;
+    private PatternSetMatcher excludedMatcher;
 
     public DefaultExcludedPatternsChecker() {
         setExcludedPatterns(EXCLUDED_PATTERNS);
@@ -62,6 +63,7 @@ public class DefaultExcludedPatternsChecker implements ExcludedPatternsChecker {
             }
         } finally {
             excludedPatterns = Collections.unmodifiableSet(excludedPatterns);
+            excludedMatcher = PatternSetMatcher.forPatterns(excludedPatterns);
         }
     }
 
@@ -75,6 +77,7 @@ public class DefaultExcludedPatternsChecker implements ExcludedPatternsChecker {
             }
         } finally {
             excludedPatterns = Collections.unmodifiableSet(excludedPatterns);
+            excludedMatcher = PatternSetMatcher.forPatterns(excludedPatterns);
         }
     }
 
@@ -112,16 +115,16 @@ public class DefaultExcludedPatternsChecker implements ExcludedPatternsChecker {
             }
         } finally {
             excludedPatterns = Collections.unmodifiableSet(excludedPatterns);
+            excludedMatcher = PatternSetMatcher.forPatterns(excludedPatterns);
         }
     }
 
     @Override
     public IsExcluded isExcluded(String value) {
-        for (Pattern excludedPattern : excludedPatterns) {
-            if (excludedPattern.matcher(value).matches()) {
-                LOG.trace("[{}] matches excluded pattern [{}]", value, excludedPattern);
-                return IsExcluded.yes(excludedPattern);
-            }
+        Pattern excludedPattern = excludedMatcher.match(value);
+        if (excludedPattern != null) {
+            LOG.trace("[{}] matches excluded pattern [{}]", value, excludedPattern);
+            return IsExcluded.yes(excludedPattern);
         }
         return IsExcluded.no(excludedPatterns);
     }
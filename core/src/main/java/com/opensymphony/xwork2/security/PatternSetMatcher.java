@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.security;
+
+import com.opensymphony.xwork2.ognl.DefaultOgnlCacheFactory;
+import com.opensymphony.xwork2.ognl.OgnlCache;
+import com.opensymphony.xwork2.ognl.OgnlDefaultCache;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Finds the first pattern of a set fully matching a value, used by {@link DefaultExcludedPatternsChecker} and
+ * {@link DefaultAcceptedPatternsChecker}.
+ * <p>
+ * The patterns are combined into a single alternation, each one in its own capturing group, so a value is scanned
+ * once instead of once per pattern. Patterns which cannot be combined safely (back references, differing flags) are
+ * matched one by one as before. Verdicts for short values, like parameter names, are cached.
+ * </p>
+ * <p>
+ * Checkers are created per interceptor, so matchers are shared by all checkers using the same set of patterns
+ * through {@link #forPatterns(Collection)}, otherwise every checker would hold its own verdict cache.
+ * </p>
+ */
+final class PatternSetMatcher {
+
+    private static final Logger LOG = LogManager.getLogger(PatternSetMatcher.class);
+
+    static final int MAX_CACHED_VALUE_LENGTH = 256;
+    static final int MAX_SHARED_MATCHERS = 100;
+
+    private static final OgnlCache<PatternSetKey, PatternSetMatcher> MATCHERS = new OgnlDefaultCache<>(MAX_SHARED_MATCHERS);
+    private static final Comparator<Pattern> PATTERN_ORDER =
+            Comparator.comparing(Pattern::pattern).thenComparingInt(Pattern::flags);
+
+    private static final Integer NO_MATCH = -1;
+    private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\([1-9]|k<)");
+
+    private final Pattern[] patterns;
+    private final Pattern combined;
+    private final int[] groups;
+    private final OgnlCache<String, Integer> verdicts = new OgnlDefaultCache<>(DefaultOgnlCacheFactory.DEFAULT_MAX_SIZE);
+
+    private PatternSetMatcher(Pattern[] patterns) {
+        this.patterns = patterns;
+        this.groups = new int[patterns.length];
+        this.combined = combine(patterns, this.groups);
+    }
+
+    /**
+     * @param patterns patterns to match, checkers keep them in sets so the order doesn't matter
+     * @return the matcher shared by all callers using the same patterns with the same flags
+     */
+    static PatternSetMatcher forPatterns(Collection<Pattern> patterns) {
+        final Pattern[] array = patterns.toArray(new Pattern[patterns.size()]);
+        Arrays.sort(array, PATTERN_ORDER);
+        final PatternSetKey key = new PatternSetKey(array);
+        PatternSetMatcher matcher = MATCHERS.get(key);
+        if (matcher == null) {
+            matcher = new PatternSetMatcher(array);
+            MATCHERS.put(key, matcher);
+        }
+        return matcher;
+    }
+
+    /**
+     * @param value value to match
+     * @return the first pattern fully matching the value or null if none does
+     */
+    Pattern match(String value) {
+        if (value.length() > MAX_CACHED_VALUE_LENGTH) {
+            return toPattern(findMatch(value));
+        }
+
+        Integer verdict = verdicts.get(value);
+        if (verdict == null) {
+            verdict = findMatch(value);
+            verdicts.put(value, verdict);
+        }
+        return toPattern(verdict);
+    }
+
+    private Pattern toPattern(int index) {
+        return index < 0 ? null : patterns[index];
+    }
+
+    private int findMatch(String value) {
+        if (combined != null) {
+            Matcher matcher = combined.matcher(value);
+            if (matcher.matches()) {
+                for (int i = 0; i < groups.length; i++) {
+                    if (matcher.start(groups[i]) != -1) {
+                        return i;
+                    }
+                }
+            }
+            return NO_MATCH;
+        }
+
+        for (int i = 0; i < patterns.length; i++) {
+            if (patterns[i].matcher(value).matches()) {
+                return i;
+            }
+        }
+        return NO_MATCH;
+    }
+
+    /**
+     * Builds the alternation of all patterns, storing the number of the group wrapping each pattern.
+     *
+     * @return the combined pattern or null if the patterns have to be matched one by one
+     */
+    private static Pattern combine(Pattern[] patterns, int[] groups) {
+        if (patterns.length < 2) {
+            return null;
+        }
+
+        final int flags = patterns[0].flags();
+        StringBuilder alternation = new StringBuilder();
+        int group = 1;
+        for (int i = 0; i < patterns.length; i++) {
+            Pattern pattern = patterns[i];
+            if (pattern.flags() != flags || BACK_REFERENCE.matcher(pattern.pattern()).find()) {
+                LOG.debug("Pattern [{}] cannot be combined, matching patterns one by one", pattern);
+                return null;
+            }
+            if (i > 0) {
+                alternation.append('|');
+            }
+            alternation.append('(').append(pattern.pattern()).append(')');
+            groups[i] = group;
+            group += pattern.matcher("").groupCount() + 1;
+        }
+
+        try {
+            return Pattern.compile(alternation.toString(), flags);
+        } catch (PatternSyntaxException e) {
+            LOG.debug("Patterns cannot be combined, matching patterns one by one", e);
+            return null;
+        }
+    }
+
+    private static final class PatternSetKey {
+
+        private final String[] expressions;
+        private final int[] flags;
+
+        PatternSetKey(Pattern[] patterns) {
+            expressions = new String[patterns.length];
+            flags = new int[patterns.length];
+            for (int i = 0; i < patterns.length; i++) {
+                expressions[i] = patterns[i].pattern();
+                flags[i] = patterns[i].flags();
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PatternSetKey)) {
+                return false;
+            }
+            PatternSetKey that = (PatternSetKey) o;
+            return Arrays.equals(expressions, that.expressions) && Arrays.equals(flags, that.flags);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(expressions) + Arrays.hashCode(flags);
+        }
+    }
+
+}
@@ -21,6 +21,9 @@ package com.opensymphony.xwork2.util;
 import com.opensymphony.xwork2.ActionContext;
 import com.opensymphony.xwork2.LocalizedTextProvider;
 import com.opensymphony.xwork2.inject.Inject;
+import com.opensymphony.xwork2.ognl.DefaultOgnlCacheFactory;
+import com.opensymphony.xwork2.ognl.OgnlCache;
+import com.opensymphony.xwork2.ognl.OgnlDefaultCache;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -63,6 +66,8 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
     private final ConcurrentMap<Integer, List<String>> classLoaderMap = new ConcurrentHashMap<>();
     private final Set<String> missingBundles = Collections.synchronizedSet(new HashSet<String>());
     private final ConcurrentMap<Integer, ClassLoader> delegatedClassLoaderMap = new ConcurrentHashMap<>();
+    private final OgnlCache<MessageResolutionKey, MessageResolution> messageResolutions =
+            new OgnlDefaultCache<>(DefaultOgnlCacheFactory.DEFAULT_MAX_SIZE);
 
     /**
      * Add's the bundle to the internal list of default bundles.
@@ -222,6 +227,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
         synchronized (bundlesMap) {
             delegatedClassLoaderMap.put(getCurrentThreadContextClassLoader().hashCode(), classLoader);
         }
+        clearMessageResolutionsCache();
     }
 
     /**
@@ -251,6 +257,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
     protected void clearBundle(final String bundleName, Locale locale) {
         final String key = createMissesKey(String.valueOf(getCurrentThreadContextClassLoader().hashCode()), bundleName, locale);
         final ResourceBundle removedBundle = bundlesMap.remove(key);
+        clearMessageResolutionsCache();
         LOG.debug("Clearing resource bundle [{}], locale [{}], result: [{}].", bundleName, locale, Boolean.valueOf(removedBundle != null));
     }
 
@@ -268,9 +275,20 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
      */
     protected void clearMissingBundlesCache() {
         missingBundles.clear();
+        clearMessageResolutionsCache();
         LOG.debug("Cleared the missing bundles cache.");
     }
 
+    /**
+     * Clears the cache of bundles which resolved a given key in the class and package hierarchy
+     * searches, see {@link #findCachedMessage(Class, String, String, Locale, Object[], ValueStack, boolean)}.
+     *
+     * @since 2.6
+     */
+    protected void clearMessageResolutionsCache() {
+        messageResolutions.clear();
+    }
+
     protected void reloadBundles() {
         reloadBundles(ActionContext.getContext() != null ? ActionContext.getContext().getContextMap() : null);
     }
@@ -286,6 +304,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
                 }
                 if (!reloaded) {
                     bundlesMap.clear();
+                    messageResolutions.clear();
                     try {
                         clearMap(ResourceBundle.class, null, "cacheList");
                     } catch (NoSuchFieldException e) {
@@ -592,6 +611,202 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
         return null;
     }
 
+    /**
+     * Traverse up the package hierarchy of the class and its superclasses looking for message
+     * in <code>package</code> bundles.
+     *
+     * @return the message
+     */
+    protected String findPackageMessage(Class clazz, String key, String indexedKey, Locale locale, Object[] args,
+                                        ValueStack valueStack) {
+        for (Class current = clazz; (current != null) && !current.equals(Object.class); current = current.getSuperclass()) {
+            String basePackageName = current.getName();
+            while (basePackageName.lastIndexOf('.') != -1) {
+                basePackageName = basePackageName.substring(0, basePackageName.lastIndexOf('.'));
+                String packageName = basePackageName + ".package";
+                String msg = getMessage(packageName, locale, key, valueStack, args);
+
+                if (msg != null) {
+                    return msg;
+                }
+
+                if (indexedKey != null) {
+                    msg = getMessage(packageName, locale, indexedKey, valueStack, args);
+
+                    if (msg != null) {
+                        return msg;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Same as {@link #findMessage(Class, String, String, Locale, Object[], Set, ValueStack)} or
+     * {@link #findPackageMessage(Class, String, String, Locale, Object[], ValueStack)} but remembers
+     * which bundle (if any) resolved the key for the given class and locale, so subsequent lookups
+     * only probe that single bundle. The cache is cleared when bundles are reloaded or cleared.
+     *
+     * @param searchPackages <tt>true</tt> to search the package hierarchy, <tt>false</tt> for the class hierarchy
+     * @return the message
+     */
+    protected String findCachedMessage(Class clazz, String key, String indexedKey, Locale locale, Object[] args,
+                                       ValueStack valueStack, boolean searchPackages) {
+        if (valueStack != null) {
+            // drops stale resolutions before using them
+            reloadBundles(valueStack.getContext());
+        }
+
+        MessageResolutionKey resolutionKey = new MessageResolutionKey(
+                getCurrentThreadContextClassLoader().hashCode(), clazz, key, locale, searchPackages);
+
+        MessageResolution resolution = messageResolutions.get(resolutionKey);
+        if (resolution == null) {
+            if (searchPackages) {
+                resolution = resolvePackageMessage(clazz, key, indexedKey, locale);
+            } else {
+                resolution = resolveMessage(clazz, key, indexedKey, locale);
+            }
+            messageResolutions.put(resolutionKey, resolution);
+        }
+
+        if (resolution.bundleName == null) {
+            return null;
+        }
+
+        String msg = getMessage(resolution.bundleName, locale, resolution.key, valueStack, args);
+        if (msg == null) {
+            // the message was formatted to null, continue the search as an uncached lookup would do
+            if (searchPackages) {
+                msg = findPackageMessage(clazz, key, indexedKey, locale, args, valueStack);
+            } else {
+                msg = findMessage(clazz, key, indexedKey, locale, args, null, valueStack);
+            }
+        }
+        return msg;
+    }
+
+    /**
+     * Mirrors {@link #findMessage(Class, String, String, Locale, Object[], Set, ValueStack)} without
+     * evaluating the message, just recording the bundle that contains the key.
+     */
+    private MessageResolution resolveMessage(Class clazz, String key, String indexedKey, Locale locale) {
+        MessageResolution resolution = resolveBundle(clazz.getName(), key, indexedKey, locale);
+        if (resolution != MessageResolution.NOT_FOUND) {
+            return resolution;
+        }
+
+        Class[] interfaces = clazz.getInterfaces();
+        for (Class anInterface : interfaces) {
+            resolution = resolveBundle(anInterface.getName(), key, indexedKey, locale);
+            if (resolution != MessageResolution.NOT_FOUND) {
+                return resolution;
+            }
+        }
+
+        if (clazz.isInterface()) {
+            for (Class anInterface : interfaces) {
+                resolution = resolveMessage(anInterface, key, indexedKey, locale);
+                if (resolution != MessageResolution.NOT_FOUND) {
+                    return resolution;
+                }
+            }
+        } else if (!clazz.equals(Object.class) && !clazz.isPrimitive()) {
+            return resolveMessage(clazz.getSuperclass(), key, indexedKey, locale);
+        }
+
+        return MessageResolution.NOT_FOUND;
+    }
+
+    /**
+     * Mirrors {@link #findPackageMessage(Class, String, String, Locale, Object[], ValueStack)} without
+     * evaluating the message, just recording the bundle that contains the key.
+     */
+    private MessageResolution resolvePackageMessage(Class clazz, String key, String indexedKey, Locale locale) {
+        for (Class current = clazz; (current != null) && !current.equals(Object.class); current = current.getSuperclass()) {
+            String basePackageName = current.getName();
+            while (basePackageName.lastIndexOf('.') != -1) {
+                basePackageName = basePackageName.substring(0, basePackageName.lastIndexOf('.'));
+                MessageResolution resolution = resolveBundle(basePackageName + ".package", key, indexedKey, locale);
+                if (resolution != MessageResolution.NOT_FOUND) {
+                    return resolution;
+                }
+            }
+        }
+        return MessageResolution.NOT_FOUND;
+    }
+
+    private MessageResolution resolveBundle(String bundleName, String key, String indexedKey, Locale locale) {
+        ResourceBundle bundle = findResourceBundle(bundleName, locale);
+        if (bundle != null) {
+            if (bundle.containsKey(key)) {
+                return new MessageResolution(bundleName, key);
+            }
+            if (indexedKey != null && bundle.containsKey(indexedKey)) {
+                return new MessageResolution(bundleName, indexedKey);
+            }
+        }
+        return MessageResolution.NOT_FOUND;
+    }
+
+    static class MessageResolutionKey {
+        final int classLoaderHash;
+        final Class clazz;
+        final String key;
+        final Locale locale;
+        final boolean searchPackages;
+        final int hashCode;
+
+        MessageResolutionKey(int classLoaderHash, Class clazz, String key, Locale locale, boolean searchPackages) {
+            this.classLoaderHash = classLoaderHash;
+            this.clazz = clazz;
+            this.key = key;
+            this.locale = locale;
+            this.searchPackages = searchPackages;
+
+            int result = classLoaderHash;
+            result = 31 * result + clazz.hashCode();
+            result = 31 * result + key.hashCode();
+            result = 31 * result + (locale != null ? locale.hashCode() : 0);
+            this.hashCode = 31 * result + (searchPackages ? 1 : 0);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            MessageResolutionKey that = (MessageResolutionKey) o;
+
+            return classLoaderHash == that.classLoaderHash
+                    && searchPackages == that.searchPackages
+                    && clazz.equals(that.clazz)
+                    && key.equals(that.key)
+                    && (locale != null ? locale.equals(that.locale) : that.locale == null);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * The bundle and key (plain or indexed) which resolved a message, or {@link #NOT_FOUND}
+     */
+    static class MessageResolution {
+        static final MessageResolution NOT_FOUND = new MessageResolution(null, null);
+
+        final String bundleName;
+        final String key;
+
+        MessageResolution(String bundleName, String key) {
+            this.bundleName = bundleName;
+            this.key = key;
+        }
+    }
+
     static class MessageFormatKey {
         String pattern;
         Locale locale;
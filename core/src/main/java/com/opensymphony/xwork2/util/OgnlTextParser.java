@@ -18,26 +18,70 @@
  */
 package com.opensymphony.xwork2.util;
 
+import com.opensymphony.xwork2.ognl.DefaultOgnlCacheFactory;
+import com.opensymphony.xwork2.ognl.OgnlCache;
+import com.opensymphony.xwork2.ognl.OgnlDefaultCache;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * OGNL implementation of {@link TextParser}
  */
 public class OgnlTextParser implements TextParser {
 
+    /**
+     * Private use characters standing for the values of evaluated expressions in a compiled text
+     */
+    private static final char FIRST_PLACEHOLDER = '\uE000';
+    private static final char LAST_PLACEHOLDER = '\uF8FF';
+
+    private final OgnlCache<ParsedTextKey, ParsedText> parsedTexts =
+            new OgnlDefaultCache<>(DefaultOgnlCacheFactory.DEFAULT_MAX_SIZE);
+
     public Object evaluate(char[] openChars, String expression, TextParseUtil.ParsedValueEvaluator evaluator, int maxLoopCount) {
         // deal with the "pure" expressions first!
         //expression = expression.trim();
-        Object result = expression = (expression == null) ? "" : expression;
-        int pos = 0;
+        ParseState state = new ParseState((expression == null) ? "" : expression);
+        evaluate(openChars, 0, state, evaluator, maxLoopCount, null);
+        return state.result;
+    }
+
+    /**
+     * Returns a compiled form of the text which remembers where its expressions are, so they can be
+     * evaluated without scanning the text again. Compiled texts are cached per open chars and text.
+     */
+    @Override
+    public ParsedText parse(char[] openChars, String expression, int maxLoopCount) {
+        if (expression == null || expression.indexOf('{') == -1) {
+            // no expressions, nothing to remember
+            return TextParser.super.parse(openChars, expression, maxLoopCount);
+        }
 
-        for (char open : openChars) {
+        ParsedTextKey key = new ParsedTextKey(openChars, expression, maxLoopCount);
+        ParsedText parsedText = parsedTexts.get(key);
+        if (parsedText == null) {
+            parsedText = compile(openChars, expression, maxLoopCount);
+            parsedTexts.put(key, parsedText);
+        }
+        return parsedText;
+    }
+
+    /**
+     * Scans the expression for each of the open chars, starting with the one at openIndex, evaluating
+     * and replacing the embedded expressions. Evaluated expressions are recorded into steps if given.
+     */
+    private void evaluate(char[] openChars, int openIndex, ParseState state, TextParseUtil.ParsedValueEvaluator evaluator,
+                          int maxLoopCount, List<Step> steps) {
+        for (int i = openIndex; i < openChars.length; i++) {
             int loopCount = 1;
             //this creates an implicit StringBuffer and shouldn't be used in the inner loop
-            final String lookupChars = open + "{";
+            final String lookupChars = openChars[i] + "{";
 
             while (true) {
-                int start = expression.indexOf(lookupChars, pos);
+                String expression = state.expression;
+                int start = expression.indexOf(lookupChars, state.pos);
                 if (start == -1) {
                     loopCount++;
                     start = expression.indexOf(lookupChars);
@@ -63,39 +107,245 @@ public class OgnlTextParser implements TextParser {
 
                 if ((start != -1) && (end != -1) && (count == 0)) {
                     String var = expression.substring(start + 2, end);
+                    if (steps != null) {
+                        steps.add(new Step(i, expression, start, end, var));
+                    }
 
                     Object o = evaluator.evaluate(var);
-
-                    String left = expression.substring(0, start);
-                    String right = expression.substring(end + 1);
-                    String middle = null;
-                    if (o != null) {
-                        middle = o.toString();
-                        if (StringUtils.isEmpty(left)) {
-                            result = o;
-                        } else {
-                            result = left.concat(middle);
-                        }
-
-                        if (StringUtils.isNotEmpty(right)) {
-                            result = result.toString().concat(right);
-                        }
-
-                        expression = left.concat(middle).concat(right);
-                    } else {
-                        // the variable doesn't exist, so don't display anything
-                        expression = left.concat(right);
-                        result = expression;
-                    }
-                    pos = (left != null && left.length() > 0 ? left.length() - 1: 0) +
-                            (middle != null && middle.length() > 0 ? middle.length() - 1: 0) +
-                            1;
-                    pos = Math.max(pos, 1);
+                    replace(state, start, end, o);
                 } else {
                     break;
                 }
             }
         }
-        return result;
+    }
+
+    /**
+     * Replaces the expression between start and end (inclusive) with its value
+     */
+    private static void replace(ParseState state, int start, int end, Object o) {
+        String left = state.expression.substring(0, start);
+        String right = state.expression.substring(end + 1);
+        String middle = null;
+        if (o != null) {
+            middle = o.toString();
+            if (StringUtils.isEmpty(left)) {
+                state.result = o;
+            } else {
+                state.result = left.concat(middle);
+            }
+
+            if (StringUtils.isNotEmpty(right)) {
+                state.result = state.result.toString().concat(right);
+            }
+
+            state.expression = left.concat(middle).concat(right);
+        } else {
+            // the variable doesn't exist, so don't display anything
+            state.expression = left.concat(right);
+            state.result = state.expression;
+        }
+        state.pos = (left.length() > 0 ? left.length() - 1 : 0) +
+                (middle != null && middle.length() > 0 ? middle.length() - 1 : 0) +
+                1;
+        state.pos = Math.max(state.pos, 1);
+    }
+
+    /**
+     * Runs the evaluation with a distinct placeholder character as the value of each expression, recording
+     * which expressions get evaluated in which order and the resulting text. This gives the same outcome as
+     * a real evaluation as long as the values cannot be mistaken for (a part of) an expression, which is
+     * checked when evaluating the compiled text.
+     */
+    private ParsedText compile(char[] openChars, String expression, int maxLoopCount) {
+        if (maxLoopCount != 1 || containsPlaceholder(expression)) {
+            // values are evaluated again or can't be told apart from the text
+            return TextParser.super.parse(openChars, expression, maxLoopCount);
+        }
+
+        final List<Step> steps = new ArrayList<>();
+        ParseState state = new ParseState(expression);
+        evaluate(openChars, 0, state, new TextParseUtil.ParsedValueEvaluator() {
+            public Object evaluate(String parsedValue) {
+                return String.valueOf((char) (FIRST_PLACEHOLDER + Math.min(steps.size() - 1, LAST_PLACEHOLDER - FIRST_PLACEHOLDER)));
+            }
+        }, maxLoopCount, steps);
+
+        if (steps.size() > LAST_PLACEHOLDER - FIRST_PLACEHOLDER + 1) {
+            return TextParser.super.parse(openChars, expression, maxLoopCount);
+        }
+        return new CompiledText(openChars, state.expression, steps.toArray(new Step[0]), maxLoopCount);
+    }
+
+    private static boolean containsPlaceholder(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isPlaceholder(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isPlaceholder(char c) {
+        return c >= FIRST_PLACEHOLDER && c <= LAST_PLACEHOLDER;
+    }
+
+    /**
+     * Appends the text between from and to (exclusive), replacing placeholders with their values
+     */
+    private static void render(String text, int from, int to, String[] values, StringBuilder sb) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (isPlaceholder(c)) {
+                sb.append(values[c - FIRST_PLACEHOLDER]);
+            } else {
+                sb.append(c);
+            }
+        }
+    }
+
+    private static String render(String text, String[] values) {
+        if (!containsPlaceholder(text)) {
+            return text;
+        }
+        StringBuilder sb = new StringBuilder(text.length() + 16 * values.length);
+        render(text, 0, text.length(), values, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Text compiled into the expressions to evaluate and the resulting text with a placeholder for each value
+     */
+    private class CompiledText implements ParsedText {
+
+        private final char[] openChars;
+        private final String text;
+        private final Step[] steps;
+        private final int maxLoopCount;
+
+        CompiledText(char[] openChars, String text, Step[] steps, int maxLoopCount) {
+            this.openChars = openChars.clone();
+            this.text = text;
+            this.steps = steps;
+            this.maxLoopCount = maxLoopCount;
+        }
+
+        public Object evaluate(TextParseUtil.ParsedValueEvaluator evaluator) {
+            String[] values = new String[steps.length];
+            Object o = null;
+            for (int i = 0; i < steps.length; i++) {
+                Step step = steps[i];
+                o = evaluator.evaluate(render(step.var, values));
+
+                String value = (o != null) ? o.toString() : null;
+                if (!isInert(value)) {
+                    // the value changes how the rest of the text is parsed, continue as a regular evaluation
+                    return resume(step, values, o, evaluator);
+                }
+                values[i] = value;
+            }
+
+            Step last = steps.length > 0 ? steps[steps.length - 1] : null;
+            if (last != null && last.start == 0 && last.end == last.text.length() - 1) {
+                // the whole text was a single expression, its value is returned as is
+                return o;
+            }
+            return render(text, values);
+        }
+
+        /**
+         * Whether the value cannot change which expressions are found in the rest of the text
+         */
+        private boolean isInert(String value) {
+            if (value == null || value.isEmpty()) {
+                return false;
+            }
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '{') {
+                    return false;
+                }
+                for (char open : openChars) {
+                    if (c == open) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private Object resume(Step step, String[] values, Object o, TextParseUtil.ParsedValueEvaluator evaluator) {
+            StringBuilder sb = new StringBuilder();
+            render(step.text, 0, step.start, values, sb);
+            int start = sb.length();
+            render(step.text, step.start, step.end + 1, values, sb);
+            int end = sb.length() - 1;
+            render(step.text, step.end + 1, step.text.length(), values, sb);
+
+            ParseState state = new ParseState(sb.toString());
+            replace(state, start, end, o);
+            OgnlTextParser.this.evaluate(openChars, step.openIndex, state, evaluator, maxLoopCount, null);
+            return state.result;
+        }
+    }
+
+    /**
+     * An evaluated expression, with the text as it was when the expression was found
+     */
+    private static class Step {
+        final int openIndex;
+        final String text;
+        final int start;
+        final int end;
+        final String var;
+
+        Step(int openIndex, String text, int start, int end, String var) {
+            this.openIndex = openIndex;
+            this.text = text;
+            this.start = start;
+            this.end = end;
+            this.var = var;
+        }
+    }
+
+    private static class ParseState {
+        String expression;
+        Object result;
+        int pos;
+
+        ParseState(String expression) {
+            this.expression = expression;
+            this.result = expression;
+        }
+    }
+
+    private static class ParsedTextKey {
+        final String openChars;
+        final String expression;
+        final int maxLoopCount;
+        final int hashCode;
+
+        ParsedTextKey(char[] openChars, String expression, int maxLoopCount) {
+            this.openChars = new String(openChars);
+            this.expression = expression;
+            this.maxLoopCount = maxLoopCount;
+            this.hashCode = 31 * (31 * this.openChars.hashCode() + expression.hashCode()) + maxLoopCount;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            ParsedTextKey that = (ParsedTextKey) o;
+            return maxLoopCount == that.maxLoopCount
+                    && openChars.equals(that.openChars)
+                    && expression.equals(that.expression);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
     }
 }
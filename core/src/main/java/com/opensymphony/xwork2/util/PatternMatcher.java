@@ -54,5 +54,18 @@ public interface PatternMatcher<E extends Object> {
      * @throws NullPointerException If any parameters are null
      */
     boolean match(Map<String,String> map, String data, E expr);
-    
+
+    /**
+     * Returns the leading part of the pattern which must literally start any data matched by the pattern,
+     * used to narrow down the patterns which have to be evaluated against given data.
+     *
+     * @param pattern The string pattern
+     * @return The literal prefix of the pattern, an empty string if the pattern doesn't have one or it cannot be determined
+     *
+     * @since 2.6
+     */
+    default String getLiteralPrefix(String pattern) {
+        return "";
+    }
+
 }
\ No newline at end of file
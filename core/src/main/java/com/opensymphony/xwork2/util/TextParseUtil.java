@@ -166,7 +166,7 @@ public class TextParseUtil {
 
         TextParser parser = stack.getActionContext().getContainer().getInstance(TextParser.class);
 
-        return parser.evaluate(openChars, expression, ognlEval, maxLoopCount);
+        return parser.parse(openChars, expression, maxLoopCount).evaluate(ognlEval);
     }
 
     /**
@@ -208,7 +208,7 @@ public class TextParseUtil {
         ActionContext actionContext = stack.getActionContext();
         TextParser parser = actionContext.getContainer().getInstance(TextParser.class);
 
-        Object result = parser.evaluate(openChars, expression, ognlEval, maxLoopCount);
+        Object result = parser.parse(openChars, expression, maxLoopCount).evaluate(ognlEval);
 
         Collection<String> resultCol;
         if (result instanceof Collection) {
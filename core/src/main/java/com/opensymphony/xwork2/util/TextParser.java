@@ -28,4 +28,34 @@ public interface TextParser {
 
     Object evaluate(char[] openChars, String expression, TextParseUtil.ParsedValueEvaluator evaluator, int maxLoopCount);
 
+    /**
+     * Parses the expression into a form which can be evaluated repeatedly with the same outcome as
+     * {@link #evaluate(char[], String, TextParseUtil.ParsedValueEvaluator, int)}, implementations
+     * may cache it to avoid scanning the same expression on each evaluation.
+     *
+     * @param openChars    the opening chars of the embedded expressions
+     * @param expression   the text with embedded expressions
+     * @param maxLoopCount how many times the evaluated values can be evaluated again
+     * @return the parsed text
+     * @since 2.6
+     */
+    default ParsedText parse(final char[] openChars, final String expression, final int maxLoopCount) {
+        return new ParsedText() {
+            public Object evaluate(TextParseUtil.ParsedValueEvaluator evaluator) {
+                return TextParser.this.evaluate(openChars, expression, evaluator, maxLoopCount);
+            }
+        };
+    }
+
+    /**
+     * A text parsed by {@link TextParser#parse(char[], String, int)}
+     *
+     * @since 2.6
+     */
+    interface ParsedText {
+
+        Object evaluate(TextParseUtil.ParsedValueEvaluator evaluator);
+
+    }
+
 }
@@ -37,5 +37,14 @@ public interface ValueStackFactory {
      * @return  a new {@link com.opensymphony.xwork2.util.ValueStack}.
      */
     ValueStack createValueStack(ValueStack stack);
-    
+
+    /**
+     * Signals that a stack created by {@link #createValueStack(ValueStack)} is no longer used, so the factory
+     * can recycle it. The stack must not be used after calling this method.
+     *
+     * @param stack a stack that is no longer used
+     */
+    default void releaseValueStack(ValueStack stack) {
+    }
+
 }
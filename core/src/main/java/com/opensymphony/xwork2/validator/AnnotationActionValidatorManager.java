@@ -32,6 +32,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * AnnotationActionValidatorManager is the entry point into XWork's annotations-based validator framework.
@@ -47,8 +49,8 @@ public class AnnotationActionValidatorManager implements ActionValidatorManager
      */
     protected static final String VALIDATION_CONFIG_SUFFIX = "-validation.xml";
 
-    private final Map<String, List<ValidatorConfig>> validatorCache = Collections.synchronizedMap(new HashMap<String, List<ValidatorConfig>>());
-    private final Map<String, List<ValidatorConfig>> validatorFileCache = Collections.synchronizedMap(new HashMap<String, List<ValidatorConfig>>());
+    private final ConcurrentMap<String, List<ValidatorConfig>> validatorCache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, List<ValidatorConfig>> validatorFileCache = new ConcurrentHashMap<>();
     private static final Logger LOG = LogManager.getLogger(AnnotationActionValidatorManager.class);
 
     private ValidatorFactory validatorFactory;
@@ -88,18 +90,9 @@ public class AnnotationActionValidatorManager implements ActionValidatorManager
 
     public List<Validator> getValidators(Class clazz, String context, String method) {
         final String validatorKey = buildValidatorKey(clazz, context);
-        final List<ValidatorConfig> cfgs;
-
-        if (validatorCache.containsKey(validatorKey)) {
-            if (reloadingConfigs) {
-                validatorCache.put(validatorKey, buildValidatorConfigs(clazz, context, true, null));
-            }
-        } else {
-            validatorCache.put(validatorKey, buildValidatorConfigs(clazz, context, false, null));
-        }
 
         // get the set of validator configs
-        cfgs = new ArrayList<ValidatorConfig>(validatorCache.get(validatorKey));
+        final List<ValidatorConfig> cfgs = getValidatorConfigs(validatorKey, clazz, context);
 
         ValueStack stack = ActionContext.getContext().getValueStack();
 
@@ -256,6 +249,21 @@ public class AnnotationActionValidatorManager implements ActionValidatorManager
         return sb.toString();
     }
 
+    /**
+     * Returns validator configs for the given key, they are built only once per key (or re-checked on each call
+     * when configuration reloading is enabled) without blocking lookups of other keys.
+     */
+    private List<ValidatorConfig> getValidatorConfigs(String validatorKey, final Class clazz, final String context) {
+        if (reloadingConfigs) {
+            return validatorCache.compute(validatorKey, (key, cfgs) -> buildValidatorConfigs(clazz, context, cfgs != null, null));
+        }
+        List<ValidatorConfig> cfgs = validatorCache.get(validatorKey);
+        if (cfgs == null) {
+            cfgs = validatorCache.computeIfAbsent(validatorKey, key -> buildValidatorConfigs(clazz, context, false, null));
+        }
+        return cfgs;
+    }
+
     private List<ValidatorConfig> buildAliasValidatorConfigs(Class aClass, String context, boolean checkFile) {
         String fileName = aClass.getName().replace('.', '/') + "-" + context.replace('/', '-') + VALIDATION_CONFIG_SUFFIX;
 
@@ -370,25 +378,32 @@ public class AnnotationActionValidatorManager implements ActionValidatorManager
         return validatorConfigs;
     }
 
-    private List<ValidatorConfig> loadFile(String fileName, Class clazz, boolean checkFile) {
-        List<ValidatorConfig> retList = Collections.emptyList();
-
-        URL fileUrl = ClassLoaderUtil.getResource(fileName, clazz);
-
-        if ((checkFile && fileManager.fileNeedsReloading(fileUrl)) || !validatorFileCache.containsKey(fileName)) {
-            try (InputStream is = fileManager.loadFile(fileUrl)) {
-                if (is != null) {
-                    retList = new ArrayList<>(validatorFileParser.parseActionValidatorConfigs(validatorFactory, is, fileName));
-                }
-            } catch (IOException e) {
-                LOG.error("Caught exception while loading file {}", fileName, e);
+    private List<ValidatorConfig> loadFile(String fileName, final Class clazz, boolean checkFile) {
+        if (checkFile) {
+            URL fileUrl = ClassLoaderUtil.getResource(fileName, clazz);
+            if (fileManager.fileNeedsReloading(fileUrl)) {
+                List<ValidatorConfig> retList = parseFile(fileName, fileUrl);
+                validatorFileCache.put(fileName, retList);
+                return retList;
             }
+        }
 
-            validatorFileCache.put(fileName, retList);
-        } else {
-            retList = validatorFileCache.get(fileName);
+        List<ValidatorConfig> retList = validatorFileCache.get(fileName);
+        if (retList == null) {
+            retList = validatorFileCache.computeIfAbsent(fileName, key -> parseFile(key, ClassLoaderUtil.getResource(key, clazz)));
         }
+        return retList;
+    }
 
+    private List<ValidatorConfig> parseFile(String fileName, URL fileUrl) {
+        List<ValidatorConfig> retList = Collections.emptyList();
+        try (InputStream is = fileManager.loadFile(fileUrl)) {
+            if (is != null) {
+                retList = new ArrayList<>(validatorFileParser.parseActionValidatorConfigs(validatorFactory, is, fileName));
+            }
+        } catch (IOException e) {
+            LOG.error("Caught exception while loading file {}", fileName, e);
+        }
         return retList;
     }
 }
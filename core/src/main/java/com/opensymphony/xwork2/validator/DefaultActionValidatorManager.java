@@ -33,6 +33,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * <p>
@@ -58,8 +60,8 @@ public class DefaultActionValidatorManager implements ActionValidatorManager {
     /** The file suffix for any validation file. */
     protected static final String VALIDATION_CONFIG_SUFFIX = "-validation.xml";
 
-    private final Map<String, List<ValidatorConfig>> validatorCache = Collections.synchronizedMap(new HashMap<String, List<ValidatorConfig>>());
-    private final Map<String, List<ValidatorConfig>> validatorFileCache = Collections.synchronizedMap(new HashMap<String, List<ValidatorConfig>>());
+    private final ConcurrentMap<String, List<ValidatorConfig>> validatorCache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, List<ValidatorConfig>> validatorFileCache = new ConcurrentHashMap<>();
 
     private ValidatorFactory validatorFactory;
     private ValidatorFileParser validatorFileParser;
@@ -92,24 +94,17 @@ public class DefaultActionValidatorManager implements ActionValidatorManager {
         this.textProviderFactory = textProviderFactory;
     }
 
-    public synchronized List<Validator> getValidators(Class clazz, String context) {
+    public List<Validator> getValidators(Class clazz, String context) {
         return getValidators(clazz, context, null);
     }
 
-    public synchronized List<Validator> getValidators(Class clazz, String context, String method) {
+    public List<Validator> getValidators(Class clazz, String context, String method) {
         final String validatorKey = buildValidatorKey(clazz, context);
 
-        if (validatorCache.containsKey(validatorKey)) {
-            if (reloadingConfigs) {
-                validatorCache.put(validatorKey, buildValidatorConfigs(clazz, context, true, null));
-            }
-        } else {
-            validatorCache.put(validatorKey, buildValidatorConfigs(clazz, context, false, null));
-        }
-        ValueStack stack = ActionContext.getContext().getValueStack();
-
         // get the set of validator configs
-        List<ValidatorConfig> cfgs = validatorCache.get(validatorKey);
+        List<ValidatorConfig> cfgs = getValidatorConfigs(validatorKey, clazz, context);
+
+        ValueStack stack = ActionContext.getContext().getValueStack();
 
         // create clean instances of the validators for the caller's use
         ArrayList<Validator> validators = new ArrayList<>(cfgs.size());
@@ -229,6 +224,21 @@ public class DefaultActionValidatorManager implements ActionValidatorManager {
         return sb.toString();
     }
 
+    /**
+     * Returns validator configs for the given key, they are built only once per key (or re-checked on each call
+     * when configuration reloading is enabled) without blocking lookups of other keys.
+     */
+    private List<ValidatorConfig> getValidatorConfigs(String validatorKey, final Class clazz, final String context) {
+        if (reloadingConfigs) {
+            return validatorCache.compute(validatorKey, (key, cfgs) -> buildValidatorConfigs(clazz, context, cfgs != null, null));
+        }
+        List<ValidatorConfig> cfgs = validatorCache.get(validatorKey);
+        if (cfgs == null) {
+            cfgs = validatorCache.computeIfAbsent(validatorKey, key -> buildValidatorConfigs(clazz, context, false, null));
+        }
+        return cfgs;
+    }
+
     private List<ValidatorConfig> buildAliasValidatorConfigs(Class aClass, String context, boolean checkFile) {
         String fileName = aClass.getName().replace('.', '/') + "-" + context + VALIDATION_CONFIG_SUFFIX;
 
@@ -328,23 +338,32 @@ public class DefaultActionValidatorManager implements ActionValidatorManager {
         return validatorConfigs;
     }
 
-    private List<ValidatorConfig> loadFile(String fileName, Class clazz, boolean checkFile) {
-        List<ValidatorConfig> retList = Collections.emptyList();
-        URL fileUrl = ClassLoaderUtil.getResource(fileName, clazz);
-        if ((checkFile && fileManager.fileNeedsReloading(fileUrl)) || !validatorFileCache.containsKey(fileName)) {
-            try (InputStream is = fileManager.loadFile(fileUrl)) {
-                if (is != null) {
-                    retList = new ArrayList<>(validatorFileParser.parseActionValidatorConfigs(validatorFactory, is, fileName));
-                }
-            } catch (IOException e) {
-                LOG.error("Caught exception while loading file {}", fileName, e);
+    private List<ValidatorConfig> loadFile(String fileName, final Class clazz, boolean checkFile) {
+        if (checkFile) {
+            URL fileUrl = ClassLoaderUtil.getResource(fileName, clazz);
+            if (fileManager.fileNeedsReloading(fileUrl)) {
+                List<ValidatorConfig> retList = parseFile(fileName, fileUrl);
+                validatorFileCache.put(fileName, retList);
+                return retList;
             }
+        }
 
-            validatorFileCache.put(fileName, retList);
-        } else {
-            retList = validatorFileCache.get(fileName);
+        List<ValidatorConfig> retList = validatorFileCache.get(fileName);
+        if (retList == null) {
+            retList = validatorFileCache.computeIfAbsent(fileName, key -> parseFile(key, ClassLoaderUtil.getResource(key, clazz)));
         }
+        return retList;
+    }
 
+    private List<ValidatorConfig> parseFile(String fileName, URL fileUrl) {
+        List<ValidatorConfig> retList = Collections.emptyList();
+        try (InputStream is = fileManager.loadFile(fileUrl)) {
+            if (is != null) {
+                retList = new ArrayList<>(validatorFileParser.parseActionValidatorConfigs(validatorFactory, is, fileName));
+            }
+        } catch (IOException e) {
+            LOG.error("Caught exception while loading file {}", fileName, e);
+        }
         return retList;
     }
 }
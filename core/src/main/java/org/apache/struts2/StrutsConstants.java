@@ -38,6 +38,9 @@ public final class StrutsConstants {
     /** Whether to reload the XML configuration or not */
     public static final String STRUTS_CONFIGURATION_XML_RELOAD = "struts.configuration.xml.reload";
 
+    /** Whether to build the runtime configuration of packages in parallel */
+    public static final String STRUTS_CONFIGURATION_PARALLEL_BUILD = "struts.configuration.parallelBuild";
+
     /** The URL extension to use to determine if the request is meant for a Struts action */
     public static final String STRUTS_ACTION_EXTENSION = "struts.action.extension";
 
@@ -130,6 +133,13 @@ public final class StrutsConstants {
     /** Declares the buffer size to be used during streaming multipart content to disk. Used only with {@link org.apache.struts2.dispatcher.multipart.JakartaStreamMultiPartRequest} */
     public static final String STRUTS_MULTIPART_BUFFERSIZE = "struts.multipart.bufferSize";
 
+    /**
+     * Defers parsing of file parts until the action is known, so actions implementing
+     * {@link org.apache.struts2.action.UploadStreamAware} receive them as streams. Used only with
+     * {@link org.apache.struts2.dispatcher.multipart.JakartaStreamMultiPartRequest}
+     */
+    public static final String STRUTS_MULTIPART_STREAM_FILE_PARTS = "struts.multipart.streamFileParts";
+
     /**
      * The org.apache.struts2.dispatcher.multipart.MultiPartRequest parser implementation
      * for a multipart request (file upload)
@@ -162,6 +172,9 @@ public final class StrutsConstants {
     /** Whether or not XSLT templates should not be cached */
     public static final String STRUTS_XSLT_NOCACHE = "struts.xslt.nocache";
 
+    /** Maximum number of compiled XSLT templates to cache, 0 means unbounded */
+    public static final String STRUTS_XSLT_CACHE_MAXSIZE = "struts.xslt.cacheMaxSize";
+
     /** Location of additional configuration properties files to load */
     public static final String STRUTS_CUSTOM_PROPERTIES = "struts.custom.properties";
 
@@ -258,6 +271,24 @@ public final class StrutsConstants {
     /** Enables caching of parsed OGNL expressions */
     public static final String STRUTS_ENABLE_OGNL_EXPRESSION_CACHE = "struts.ognl.enableExpressionCache";
 
+    /** The {@link com.opensymphony.xwork2.ognl.OgnlCacheFactory} implementation used to build the OGNL expression cache */
+    public static final String STRUTS_OGNL_EXPRESSION_CACHE_FACTORY = "struts.ognl.expressionCacheFactory";
+
+    /** The type of the OGNL expression cache, "basic" (flushed once the max size is exceeded) or "lru" (least recently used eviction) */
+    public static final String STRUTS_OGNL_EXPRESSION_CACHE_TYPE = "struts.ognl.expressionCacheType";
+
+    /** The maximum number of parsed OGNL expressions kept in the expression cache */
+    public static final String STRUTS_OGNL_EXPRESSION_CACHE_MAXSIZE = "struts.ognl.expressionCacheMaxSize";
+
+    /** Enables compilation of frequently evaluated OGNL property chains into direct getter calls */
+    public static final String STRUTS_ENABLE_OGNL_EXPRESSION_COMPILATION = "struts.ognl.enableExpressionCompilation";
+
+    /** Number of evaluations of an OGNL property chain after which it gets compiled */
+    public static final String STRUTS_OGNL_EXPRESSION_COMPILATION_THRESHOLD = "struts.ognl.expressionCompilationThreshold";
+
+    /** Number of released OGNL value stacks kept for reuse, 0 disables recycling */
+    public static final String STRUTS_OGNL_VALUE_STACK_POOL_SIZE = "struts.ognl.valueStackPoolSize";
+
     /** Enables evaluation of OGNL expressions */
     public static final String STRUTS_ENABLE_OGNL_EVAL_EXPRESSION = "struts.ognl.enableOGNLEvalExpression";
 
@@ -347,6 +378,13 @@ public final class StrutsConstants {
 
     public static final String STRUTS_OGNL_AUTO_GROWTH_COLLECTION_LIMIT = "struts.ognl.autoGrowthCollectionLimit";
 
+    /** The {@link org.apache.struts2.interceptor.exec.ExecutorProvider} used by the execAndWait interceptor */
+    public static final String STRUTS_EXECUTE_AND_WAIT_EXECUTOR_PROVIDER = "struts.executeAndWait.executorProvider";
+    /** Maximum number of threads running background processes of the execAndWait interceptor */
+    public static final String STRUTS_EXECUTE_AND_WAIT_MAX_THREADS = "struts.executeAndWait.maxThreads";
+    /** Maximum number of background processes waiting for a free thread, further processes are rejected */
+    public static final String STRUTS_EXECUTE_AND_WAIT_QUEUE_CAPACITY = "struts.executeAndWait.queueCapacity";
+
     /** See {@link com.opensymphony.xwork2.config.impl.AbstractMatcher#appendNamedParameters */
     public static final String STRUTS_MATCHER_APPEND_NAMED_PARAMETERS = "struts.matcher.appendNamedParameters";
 }
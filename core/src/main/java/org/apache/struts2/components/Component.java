@@ -69,6 +69,7 @@ public class Component {
     protected ActionMapper actionMapper;
     protected boolean throwExceptionOnELFailure;
     private UrlHelper urlHelper;
+    private Boolean useAltSyntax;
 
     /**
      * Constructor.
@@ -282,15 +283,23 @@ public class Component {
      * the parameter expression is returned as is.
      */
 	protected String stripExpressionIfAltSyntax(String expr) {
-		return ComponentUtils.stripExpressionIfAltSyntax(stack, expr);
+		if (expr != null && altSyntax()) {
+			return TagAttribute.of(expr).getStrippedValue();
+		}
+		return expr;
 	}
 
     /**
      * See <code>struts.properties</code> where the altSyntax flag is defined.
+     * The flag is resolved once per component, as it is consulted for each evaluated attribute.
+     *
      * @return if the altSyntax enabled? [TRUE]
      */
     public boolean altSyntax() {
-        return ComponentUtils.altSyntax(stack);
+        if (useAltSyntax == null) {
+            useAltSyntax = ComponentUtils.altSyntax(stack);
+        }
+        return useAltSyntax;
     }
 
     /**
@@ -364,17 +373,32 @@ public class Component {
      * is evaluated against the stack.
      * <br>
      * This method only supports the altSyntax. So this should be set to true.
+     * <br>
+     * String values are classified once as literal, single expression or text with embedded expressions, see
+     * {@link TagAttribute}: literals are returned without touching the stack and single expressions are evaluated
+     * without parsing the text.
      * @param expr  OGNL expression.
      * @param toType  the type expected to find.
      * @return  the Object found, or <tt>null</tt> if not found.
      */
     protected Object findValue(String expr, Class toType) {
         if (altSyntax() && toType == String.class) {
-            if (ComponentUtils.containsExpression(expr)) {
-                return TextParseUtil.translateVariables('%', expr, stack);
-            } else {
+            if (expr == null) {
+                return null;
+            }
+            TagAttribute attribute = TagAttribute.of(expr);
+            if (attribute.isLiteral()) {
                 return expr;
+            } else if (attribute.isSingleExpression()) {
+                // same outcome as translating the variables of the text
+                Object value = stack.findValue(attribute.getStrippedValue(), String.class);
+                return value != null ? value.toString() : "";
+            } else {
+                return TextParseUtil.translateVariables('%', expr, stack);
             }
+        } else if (toType == Boolean.class && ("true".equals(expr) || "false".equals(expr))) {
+            // boolean literals don't need to be evaluated
+            return Boolean.valueOf(expr);
         } else {
             expr = stripExpressionIfAltSyntax(expr);
 
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.components;
+
+import com.opensymphony.xwork2.ognl.DefaultOgnlCacheFactory;
+import com.opensymphony.xwork2.ognl.OgnlCache;
+import com.opensymphony.xwork2.ognl.OgnlDefaultCache;
+import org.apache.struts2.util.ComponentUtils;
+
+/**
+ * Classification of a tag attribute value, used by {@link Component} when altSyntax is enabled.
+ * <p>
+ * A value is either a literal without any <code>%{}</code> expression, a single expression spanning the whole value,
+ * or a text with embedded expressions. The classification and the expression without its <code>%{ }</code> are
+ * computed once per distinct value and reused by every rendering of the tags using it. Values are cached up to
+ * {@value #MAX_CACHED_VALUE_LENGTH} chars.
+ * </p>
+ */
+final class TagAttribute {
+
+    static final int MAX_CACHED_VALUE_LENGTH = 256;
+
+    private static final OgnlCache<String, TagAttribute> ATTRIBUTES =
+            new OgnlDefaultCache<>(DefaultOgnlCacheFactory.DEFAULT_MAX_SIZE);
+
+    private final boolean literal;
+    private final boolean singleExpression;
+    private final String strippedValue;
+
+    private TagAttribute(String value) {
+        this.literal = !ComponentUtils.containsExpression(value);
+        this.singleExpression = spansWholeValue(value);
+        this.strippedValue = ComponentUtils.isExpression(value) ? value.substring(2, value.length() - 1) : value;
+    }
+
+    static TagAttribute of(String value) {
+        if (value.length() > MAX_CACHED_VALUE_LENGTH) {
+            return new TagAttribute(value);
+        }
+
+        TagAttribute attribute = ATTRIBUTES.get(value);
+        if (attribute == null) {
+            attribute = new TagAttribute(value);
+            ATTRIBUTES.put(value, attribute);
+        }
+        return attribute;
+    }
+
+    /**
+     * @return true if the value doesn't contain any expression and is used as is
+     */
+    boolean isLiteral() {
+        return literal;
+    }
+
+    /**
+     * @return true if the whole value is a single <code>%{}</code> expression
+     */
+    boolean isSingleExpression() {
+        return singleExpression;
+    }
+
+    /**
+     * @return the value without the surrounding <code>%{ }</code>, which is the expression if the value is a single
+     * expression
+     */
+    String getStrippedValue() {
+        return strippedValue;
+    }
+
+    /**
+     * Checks if the brace closing the leading <code>%{</code> is the last char, braces are counted the same way
+     * the {@link com.opensymphony.xwork2.util.TextParser} does.
+     */
+    private static boolean spansWholeValue(String value) {
+        if (!ComponentUtils.isExpression(value)) {
+            return false;
+        }
+        int count = 1;
+        for (int i = 2; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '{') {
+                count++;
+            } else if (c == '}') {
+                count--;
+                if (count == 0) {
+                    return i == value.length() - 1;
+                }
+            }
+        }
+        return false;
+    }
+
+}
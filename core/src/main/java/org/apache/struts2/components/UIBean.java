@@ -453,6 +453,10 @@ public abstract class UIBean extends Component {
     protected String templateDir;
     protected String theme;
 
+    // templateDir and theme resolved by evaluateParams(), reused to build the template name
+    private String evaluatedTemplateDir;
+    private String evaluatedTheme;
+
     // shortcut, sets label, name, and value
     protected String key;
 
@@ -561,8 +565,8 @@ public abstract class UIBean extends Component {
             template = findString(myTemplate);
         }
 
-        String templateDir = getTemplateDir();
-        String theme = getTheme();
+        String templateDir = evaluatedTemplateDir != null ? evaluatedTemplateDir : getTemplateDir();
+        String theme = evaluatedTheme != null ? evaluatedTheme : getTheme();
 
         return new Template(templateDir, theme, template);
 
@@ -637,7 +641,9 @@ public abstract class UIBean extends Component {
     public void evaluateParams() {
         String templateDir = getTemplateDir();
         String theme = getTheme();
-        
+        evaluatedTemplateDir = templateDir;
+        evaluatedTheme = theme;
+
         addParameter("templateDir", templateDir);
         addParameter("theme", theme);
         addParameter("template", template != null ? findString(template) : getDefaultTemplate());
@@ -21,15 +21,19 @@ package org.apache.struts2.components.template;
 import com.opensymphony.xwork2.ActionContext;
 import com.opensymphony.xwork2.ActionInvocation;
 import com.opensymphony.xwork2.inject.Inject;
+import com.opensymphony.xwork2.ognl.OgnlCache;
+import com.opensymphony.xwork2.ognl.OgnlDefaultCache;
 import com.opensymphony.xwork2.util.ClassLoaderUtil;
 import com.opensymphony.xwork2.util.ValueStack;
 import freemarker.core.ParseException;
 import freemarker.template.Configuration;
-import freemarker.template.SimpleHash;
+import freemarker.template.ObjectWrapper;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.struts2.ServletActionContext;
+import org.apache.struts2.StrutsConstants;
 import org.apache.struts2.views.freemarker.FreemarkerManager;
+import org.apache.struts2.views.freemarker.ScopesHashModel;
 
 import javax.servlet.ServletContext;
 import javax.servlet.http.HttpServletRequest;
@@ -46,6 +50,18 @@ public class FreemarkerTemplateEngine extends BaseTemplateEngine {
     static Class bodyContent = null;
     protected FreemarkerManager freemarkerManager;
 
+    /**
+     * Upper bound of remembered templates, theme and templateDir can be evaluated from tag attributes
+     */
+    private static final int MAX_RESOLVED_TEMPLATES = 1000;
+
+    /**
+     * Remembers which template of the parent theme chain was found for the requested template,
+     * so the chain doesn't have to be probed (by failing lookups) on each rendering
+     */
+    private final OgnlCache<Template, String> resolvedTemplates = new OgnlDefaultCache<>(MAX_RESOLVED_TEMPLATES);
+    private boolean devMode;
+
     static {
         try {
             bodyContent = ClassLoaderUtil.loadClass("javax.servlet.jsp.tagext.BodyContent",
@@ -60,10 +76,18 @@ public class FreemarkerTemplateEngine extends BaseTemplateEngine {
 
     private static final Logger LOG = LogManager.getLogger(FreemarkerTemplateEngine.class);
 
+    // Note the name starts with dot, so it's essentially invisible from a freemarker script.
+    private static final String ATTR_TAG_TEMPLATE_MODEL = ".freemarker.TagTemplateModel";
+
     @Inject
     public void setFreemarkerManager(FreemarkerManager mgr) {
         this.freemarkerManager = mgr;
     }
+
+    @Inject(value = StrutsConstants.STRUTS_DEVMODE, required = false)
+    public void setDevMode(String devMode) {
+        this.devMode = Boolean.parseBoolean(devMode);
+    }
     
     public void renderTemplate(TemplateRenderingContext templateContext) throws Exception {
     	// get the various items required from the stack
@@ -76,44 +100,23 @@ public class FreemarkerTemplateEngine extends BaseTemplateEngine {
         // prepare freemarker
         Configuration config = freemarkerManager.getConfiguration(servletContext);
 
-        // get the list of templates we can use
-        List<Template> templates = templateContext.getTemplate().getPossibleTemplates(this);
-
-        // find the right template
+        // use the template resolved previously, if it still exists
         freemarker.template.Template template = null;
-        String templateName = null;
-        Exception exception = null;
-        for (Template t : templates) {
-            templateName = getFinalTemplateName(t);
-                try {
-                    // try to load, and if it works, stop at the first one
-                    template = config.getTemplate(templateName);
-                    break;
-                } catch (ParseException e) {
-                    // template was found but was invalid - always report this.
-                    exception = e;
-                    break;
-                } catch (IOException e) {
-                    // FileNotFoundException is anticipated - report the first IOException if no template found
-                    if (exception == null) {
-                        exception = e;
-                    }
-                }
+        String templateName = devMode ? null : resolvedTemplates.get(templateContext.getTemplate());
+        if (templateName != null) {
+            try {
+                template = config.getTemplate(templateName);
+            } catch (IOException e) {
+                LOG.debug("Resolved template [{}] cannot be loaded anymore, searching again", templateName, e);
+            }
         }
 
         if (template == null) {
-            if (LOG.isErrorEnabled()) {
-                LOG.error("Could not load the FreeMarker template named '{}':", templateContext.getTemplate().getName());
-                for (Template t : templates) {
-                    LOG.error("Attempted: {}", getFinalTemplateName(t));
-                }
-                LOG.error("The TemplateLoader provided by the FreeMarker Configuration was a: {}", config.getTemplateLoader().getClass().getName());
-            }
-            if (exception != null) {
-                throw exception;
-            } else {
+            template = findTemplate(templateContext, config);
+            if (template == null) {
                 return;
             }
+            templateName = template.getName();
         }
 
         LOG.debug("Rendering template: {}", templateName);
@@ -121,10 +124,6 @@ public class FreemarkerTemplateEngine extends BaseTemplateEngine {
         ActionInvocation ai = ActionContext.getContext().getActionInvocation();
 
         Object action = (ai == null) ? null : ai.getAction();
-        SimpleHash model = freemarkerManager.buildTemplateModel(stack, action, servletContext, req, res, config.getObjectWrapper());
-
-        model.put("tag", templateContext.getTag());
-        model.put("themeProperties", getThemeProps(templateContext.getTemplate()));
 
         // the BodyContent JSP writer doesn't like it when FM flushes automatically --
         // so let's just not do it (it will be flushed eventually anyway)
@@ -144,15 +143,129 @@ public class FreemarkerTemplateEngine extends BaseTemplateEngine {
             }
         };
 
+        TagTemplateModel tagModel = acquireTemplateModel(stack, action, servletContext, req, res, config.getObjectWrapper());
         try {
+            ScopesHashModel model = tagModel.model;
+            model.put("tag", templateContext.getTag());
+            model.put("themeProperties", getThemeProps(templateContext.getTemplate()));
+
             stack.push(templateContext.getTag());
-            template.process(model, writer);
+            try {
+                template.process(model, writer);
+            } finally {
+                stack.pop();
+            }
         } finally {
-            stack.pop();
+            // released even if the theme properties can't be read, so the next tags reuse the model
+            tagModel.inUse = false;
+        }
+    }
+
+    /**
+     * Returns the template model built for previous tags of this request, if it was built for the same
+     * stack, action, request and response. A new model is built for the first tag, when the request changed in
+     * a way the model depends on or when a tag is rendered from within another tag's template.
+     */
+    protected TagTemplateModel acquireTemplateModel(ValueStack stack, Object action, ServletContext servletContext,
+                                                    HttpServletRequest req, HttpServletResponse res, ObjectWrapper wrapper) {
+        boolean withSession = req.getSession(false) != null;
+
+        TagTemplateModel tagModel = (TagTemplateModel) req.getAttribute(ATTR_TAG_TEMPLATE_MODEL);
+        if (tagModel != null && !tagModel.inUse && tagModel.isBuiltFor(stack, action, req, res, wrapper, withSession)) {
+            tagModel.model.clearParametersCache();
+        } else {
+            ScopesHashModel model = freemarkerManager.buildTemplateModel(stack, action, servletContext, req, res, wrapper);
+            boolean nested = tagModel != null && tagModel.inUse;
+            tagModel = new TagTemplateModel(model, stack, action, req, res, wrapper, withSession);
+            if (!nested) {
+                req.setAttribute(ATTR_TAG_TEMPLATE_MODEL, tagModel);
+            }
         }
+        tagModel.inUse = true;
+        return tagModel;
+    }
+
+    /**
+     * Searches the template in the theme and its parent themes, remembering the one which was found.
+     *
+     * @return the template or null if none exists
+     */
+    private freemarker.template.Template findTemplate(TemplateRenderingContext templateContext, Configuration config) throws Exception {
+        // get the list of templates we can use
+        List<Template> templates = templateContext.getTemplate().getPossibleTemplates(this);
+
+        // find the right template
+        Exception exception = null;
+        for (Template t : templates) {
+            String templateName = getFinalTemplateName(t);
+            try {
+                // try to load, and if it works, stop at the first one
+                freemarker.template.Template template = config.getTemplate(templateName);
+                if (!devMode) {
+                    resolvedTemplates.put(templateContext.getTemplate(), templateName);
+                }
+                return template;
+            } catch (ParseException e) {
+                // template was found but was invalid - always report this.
+                exception = e;
+                break;
+            } catch (IOException e) {
+                // FileNotFoundException is anticipated - report the first IOException if no template found
+                if (exception == null) {
+                    exception = e;
+                }
+            }
+        }
+
+        if (LOG.isErrorEnabled()) {
+            LOG.error("Could not load the FreeMarker template named '{}':", templateContext.getTemplate().getName());
+            for (Template t : templates) {
+                LOG.error("Attempted: {}", getFinalTemplateName(t));
+            }
+            LOG.error("The TemplateLoader provided by the FreeMarker Configuration was a: {}", config.getTemplateLoader().getClass().getName());
+        }
+        if (exception != null) {
+            throw exception;
+        }
+        return null;
     }
 
     protected String getSuffix() {
         return "ftl";
     }
+
+    /**
+     * Template model shared by the tags rendered during a request, together with what it was built from
+     */
+    protected static class TagTemplateModel {
+        final ScopesHashModel model;
+        private final ValueStack stack;
+        private final Object action;
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final ObjectWrapper wrapper;
+        private final boolean withSession;
+        boolean inUse;
+
+        TagTemplateModel(ScopesHashModel model, ValueStack stack, Object action, HttpServletRequest request,
+                         HttpServletResponse response, ObjectWrapper wrapper, boolean withSession) {
+            this.model = model;
+            this.stack = stack;
+            this.action = action;
+            this.request = request;
+            this.response = response;
+            this.wrapper = wrapper;
+            this.withSession = withSession;
+        }
+
+        boolean isBuiltFor(ValueStack stack, Object action, HttpServletRequest request, HttpServletResponse response,
+                           ObjectWrapper wrapper, boolean withSession) {
+            return this.stack == stack
+                    && this.action == action
+                    && this.request == request
+                    && this.response == response
+                    && this.wrapper == wrapper
+                    && this.withSession == withSession;
+        }
+    }
 }
\ No newline at end of file
@@ -48,6 +48,7 @@ import com.opensymphony.xwork2.factory.InterceptorFactory;
 import com.opensymphony.xwork2.factory.ResultFactory;
 import com.opensymphony.xwork2.factory.ValidatorFactory;
 import com.opensymphony.xwork2.inject.ContainerBuilder;
+import com.opensymphony.xwork2.ognl.OgnlCacheFactory;
 import com.opensymphony.xwork2.inject.Scope;
 import com.opensymphony.xwork2.util.PatternMatcher;
 import com.opensymphony.xwork2.util.TextParser;
@@ -64,6 +65,7 @@ import org.apache.struts2.dispatcher.DispatcherErrorHandler;
 import org.apache.struts2.dispatcher.StaticContentLoader;
 import org.apache.struts2.dispatcher.mapper.ActionMapper;
 import org.apache.struts2.dispatcher.multipart.MultiPartRequest;
+import org.apache.struts2.interceptor.exec.ExecutorProvider;
 import org.apache.struts2.util.ContentTypeMatcher;
 import org.apache.struts2.views.freemarker.FreemarkerManager;
 import org.apache.struts2.views.util.UrlHelper;
@@ -340,6 +342,12 @@ import org.apache.struts2.views.util.UrlHelper;
  *     <td>singleton</td>
  *     <td>Provides access to resource bundles used to localise messages (since 2.5.11)</td>
  *   </tr>
+ *   <tr>
+ *     <td>com.opensymphony.xwork2.ognl.OgnlCacheFactory</td>
+ *     <td>struts.ognl.expressionCacheFactory</td>
+ *     <td>singleton</td>
+ *     <td>Builds the cache used to keep parsed OGNL expressions (since 2.6)</td>
+ *   </tr>
  * </table>
  *
  * <!-- END SNIPPET: extensionPoints -->
@@ -413,8 +421,10 @@ public class StrutsBeanSelectionProvider extends AbstractBeanSelectionProvider {
         alias(UrlHelper.class, StrutsConstants.STRUTS_URL_HELPER, builder, props);
 
         alias(TextParser.class, StrutsConstants.STRUTS_EXPRESSION_PARSER, builder, props);
+        alias(OgnlCacheFactory.class, StrutsConstants.STRUTS_OGNL_EXPRESSION_CACHE_FACTORY, builder, props);
 
         alias(DispatcherErrorHandler.class, StrutsConstants.STRUTS_DISPATCHER_ERROR_HANDLER, builder, props);
+        alias(ExecutorProvider.class, StrutsConstants.STRUTS_EXECUTE_AND_WAIT_EXECUTOR_PROVIDER, builder, props);
 
         /** Checker is used mostly in interceptors, so there be one instance of checker per interceptor with Scope.PROTOTYPE **/
         alias(ExcludedPatternsChecker.class, StrutsConstants.STRUTS_EXCLUDED_PATTERNS_CHECKER, builder, props, Scope.PROTOTYPE);
@@ -67,6 +67,7 @@ import org.apache.struts2.config.StrutsXmlConfigurationProvider;
 import org.apache.struts2.dispatcher.mapper.ActionMapping;
 import org.apache.struts2.dispatcher.multipart.MultiPartRequest;
 import org.apache.struts2.dispatcher.multipart.MultiPartRequestWrapper;
+import org.apache.struts2.interceptor.exec.ExecutorProvider;
 import org.apache.struts2.util.AttributeMap;
 import org.apache.struts2.util.ObjectFactoryDestroyable;
 import org.apache.struts2.util.fs.JBossFileManager;
@@ -343,8 +344,10 @@ public class Dispatcher {
      * Releases all instances bound to this dispatcher instance.
      */
     public void cleanup() {
+        final Container container = getContainer();
+
         // clean up ObjectFactory
-        ObjectFactory objectFactory = getContainer().getInstance(ObjectFactory.class);
+        ObjectFactory objectFactory = container.getInstance(ObjectFactory.class);
         if (objectFactory == null) {
             LOG.warn("Object Factory is null, something is seriously wrong, no clean up will be performed");
         }
@@ -384,6 +387,12 @@ public class Dispatcher {
             interceptor.destroy();
         }
 
+        // shut down the pool shared by all execAndWait interceptors, started processes are still completed
+        ExecutorProvider executorProvider = container.getInstance(ExecutorProvider.class);
+        if (executorProvider != null && !executorProvider.isShutdown()) {
+            executorProvider.shutdown();
+        }
+
         // Clear container holder when application is unloaded / server shutdown
         ContainerHolder.clear();
 
@@ -691,7 +700,7 @@ public class Dispatcher {
         Map requestMap = new RequestMap(request);
 
         // parameters map wrapping the http parameters.  ActionMapping parameters are now handled and applied separately
-        HttpParameters params = HttpParameters.create(request.getParameterMap()).build();
+        HttpParameters params = HttpParameters.createLazily(request.getParameterMap());
 
         // session map wrapping the http session
         Map session = new SessionMap(request);
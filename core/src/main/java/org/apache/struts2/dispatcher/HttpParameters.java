@@ -48,6 +48,17 @@ public class HttpParameters implements Map<String, Parameter>, Cloneable {
         return new Builder(new HashMap<>());
     }
 
+    /**
+     * Creates parameters backed by a shallow copy of the given request parameter map, each {@link Parameter}
+     * is created on first access and {@link #appendAll(Map)} or {@link #remove(Set)} don't modify the given map.
+     *
+     * @param requestParameterMap request parameters
+     * @return parameters created lazily from the given map
+     */
+    public static HttpParameters createLazily(Map<String, ?> requestParameterMap) {
+        return new HttpParameters(new LazyParameterMap(requestParameterMap));
+    }
+
     public HttpParameters remove(Set<String> paramsToRemove) {
         for (String paramName : paramsToRemove) {
             parameters.remove(paramName);
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.dispatcher;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Map of {@link Parameter}s backed by a request parameter map, used by {@link HttpParameters#createLazily(Map)}.
+ * The request parameter map is shallow copied, as containers recycle it once the request is done, and never modified,
+ * each {@link Parameter.Request} is created when accessed for the first time. Parameters put into or removed from
+ * this map are kept in an overlay.
+ */
+final class LazyParameterMap extends AbstractMap<String, Parameter> {
+
+    private final Map<String, ?> requestParameters;
+    private final ConcurrentMap<String, Parameter> materialized = new ConcurrentHashMap<>();
+
+    private Map<String, Parameter> added;
+    private Set<Object> removed;
+    private int size;
+
+    LazyParameterMap(Map<String, ?> requestParameters) {
+        this.requestParameters = new LinkedHashMap<>(requestParameters);
+        this.size = this.requestParameters.size();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return (added != null && added.containsKey(key)) || isRequestParameter(key);
+    }
+
+    @Override
+    public Parameter get(Object key) {
+        if (added != null && added.containsKey(key)) {
+            return added.get(key);
+        }
+        if (!isRequestParameter(key)) {
+            return null;
+        }
+
+        String name = (String) key;
+        Parameter parameter = materialized.get(name);
+        if (parameter == null) {
+            parameter = new Parameter.Request(name, requestParameters.get(name));
+            Parameter previous = materialized.putIfAbsent(name, parameter);
+            if (previous != null) {
+                parameter = previous;
+            }
+        }
+        return parameter;
+    }
+
+    @Override
+    public Parameter put(String key, Parameter value) {
+        if (!containsKey(key)) {
+            size++;
+        }
+        Parameter previous = get(key);
+        if (added == null) {
+            added = new LinkedHashMap<>();
+        }
+        added.put(key, value);
+        return previous;
+    }
+
+    @Override
+    public Parameter remove(Object key) {
+        if (containsKey(key)) {
+            size--;
+        }
+        Parameter previous = get(key);
+        if (added != null) {
+            added.remove(key);
+        }
+        if (requestParameters.containsKey(key)) {
+            if (removed == null) {
+                removed = new HashSet<>();
+            }
+            removed.add(key);
+        }
+        return previous;
+    }
+
+    @Override
+    public Set<Entry<String, Parameter>> entrySet() {
+        return new AbstractSet<Entry<String, Parameter>>() {
+            @Override
+            public Iterator<Entry<String, Parameter>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private boolean isRequestParameter(Object key) {
+        return (removed == null || !removed.contains(key)) && requestParameters.containsKey(key);
+    }
+
+    /**
+     * @return true if the request parameter is neither removed nor overridden by an added parameter
+     */
+    private boolean isVisibleRequestParameter(String name) {
+        return (removed == null || !removed.contains(name)) && (added == null || !added.containsKey(name));
+    }
+
+    /**
+     * Iterates over the added parameters and then over the remaining request parameters
+     */
+    private class EntryIterator implements Iterator<Entry<String, Parameter>> {
+
+        private final Iterator<Entry<String, Parameter>> addedEntries = added == null
+                ? null
+                : added.entrySet().iterator();
+        private final Iterator<String> requestNames = requestParameters.keySet().iterator();
+        private String nextName;
+
+        @Override
+        public boolean hasNext() {
+            if ((addedEntries != null && addedEntries.hasNext()) || nextName != null) {
+                return true;
+            }
+            while (requestNames.hasNext()) {
+                String name = requestNames.next();
+                if (isVisibleRequestParameter(name)) {
+                    nextName = name;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Entry<String, Parameter> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (addedEntries != null && addedEntries.hasNext()) {
+                Entry<String, Parameter> entry = addedEntries.next();
+                return new SimpleImmutableEntry<>(entry.getKey(), entry.getValue());
+            }
+            String name = nextName;
+            nextName = null;
+            return new SimpleImmutableEntry<>(name, get(name));
+        }
+    }
+
+}
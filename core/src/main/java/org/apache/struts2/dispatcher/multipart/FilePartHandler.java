@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.dispatcher.multipart;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Receives the file parts of a multipart request as streams while the request is parsed,
+ * see {@link MultiPartRequest#parsePendingParts(FilePartHandler)}.
+ *
+ * @since 2.6
+ */
+public interface FilePartHandler {
+
+    /**
+     * Handles a single file part, the content is only readable until this method returns.
+     *
+     * @param fieldName   name of the file input field
+     * @param fileName    name of the file as sent by the client, without any path
+     * @param contentType content type as sent by the client
+     * @param content     the content of the file
+     * @throws IOException if the content cannot be read or stored
+     */
+    void handle(String fieldName, String fileName, String contentType, InputStream content) throws IOException;
+
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.struts2.dispatcher.multipart;
 
+import com.opensymphony.xwork2.inject.Inject;
 import org.apache.commons.fileupload.FileItemIterator;
 import org.apache.commons.fileupload.FileItemStream;
 import org.apache.commons.fileupload.FileUploadBase;
@@ -26,6 +27,7 @@ import org.apache.commons.fileupload.servlet.ServletFileUpload;
 import org.apache.commons.fileupload.util.Streams;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.struts2.StrutsConstants;
 import org.apache.struts2.dispatcher.LocalizedMessage;
 
 import javax.servlet.http.HttpServletRequest;
@@ -38,6 +40,9 @@ import java.util.*;
  *
  * For more details see WW-3025
  *
+ * With {@link StrutsConstants#STRUTS_MULTIPART_STREAM_FILE_PARTS} enabled parsing stops at the first file part,
+ * the remaining parts are parsed by {@link #parsePendingParts(FilePartHandler)} once the action is known.
+ *
  * @author Chris Cranford
  * @since 2.3.18
  */
@@ -55,6 +60,21 @@ public class JakartaStreamMultiPartRequest extends AbstractMultiPartRequest {
      */
     protected Map<String, List<String>> parameters = new HashMap<>();
 
+    /**
+     * Whether to stop parsing at the first file part.
+     */
+    protected boolean streamFileParts;
+
+    /**
+     * The parts left when parsing stopped at the first file part, null if there are none.
+     */
+    private PendingParts pendingParts;
+
+    @Inject(value = StrutsConstants.STRUTS_MULTIPART_STREAM_FILE_PARTS, required = false)
+    public void setStreamFileParts(String streamFileParts) {
+        this.streamFileParts = Boolean.parseBoolean(streamFileParts);
+    }
+
     /* (non-Javadoc)
      * @see org.apache.struts2.dispatcher.multipart.MultiPartRequest#cleanUp()
      */
@@ -75,6 +95,7 @@ public class JakartaStreamMultiPartRequest extends AbstractMultiPartRequest {
      * @see org.apache.struts2.dispatcher.multipart.MultiPartRequest#getContentType(java.lang.String)
      */
     public String[] getContentType(String fieldName) {
+        parseRemainingParts();
         List<FileInfo> infos = fileInfos.get(fieldName);
         if (infos == null) {
             return null;
@@ -92,6 +113,7 @@ public class JakartaStreamMultiPartRequest extends AbstractMultiPartRequest {
      * @see org.apache.struts2.dispatcher.multipart.MultiPartRequest#getFile(java.lang.String)
      */
     public UploadedFile[] getFile(String fieldName) {
+        parseRemainingParts();
         List<FileInfo> infos = fileInfos.get(fieldName);
         if (infos == null) {
             return null;
@@ -109,6 +131,7 @@ public class JakartaStreamMultiPartRequest extends AbstractMultiPartRequest {
      * @see org.apache.struts2.dispatcher.multipart.MultiPartRequest#getFileNames(java.lang.String)
      */
     public String[] getFileNames(String fieldName) {
+        parseRemainingParts();
         List<FileInfo> infos = fileInfos.get(fieldName);
         if (infos == null) {
             return null;
@@ -126,6 +149,7 @@ public class JakartaStreamMultiPartRequest extends AbstractMultiPartRequest {
      * @see org.apache.struts2.dispatcher.multipart.MultiPartRequest#getFileParameterNames()
      */
     public Enumeration<String> getFileParameterNames() {
+        parseRemainingParts();
         return Collections.enumeration(fileInfos.keySet());
     }
 
@@ -133,6 +157,7 @@ public class JakartaStreamMultiPartRequest extends AbstractMultiPartRequest {
      * @see org.apache.struts2.dispatcher.multipart.MultiPartRequest#getFilesystemName(java.lang.String)
      */
     public String[] getFilesystemName(String fieldName) {
+        parseRemainingParts();
         List<FileInfo> infos = fileInfos.get(fieldName);
         if (infos == null) {
             return null;
@@ -225,6 +250,14 @@ public class JakartaStreamMultiPartRequest extends AbstractMultiPartRequest {
                         processFileItemStreamAsFormField(itemStream);
                     }
 
+                    // Leave the file parts in the request, they are parsed once
+                    // the action is known, see parsePendingParts()
+                    else if (streamFileParts) {
+                        LOG.debug("Deferring parsing of file field '{}' and all following parts.", itemStream.getFieldName());
+                        pendingParts = new PendingParts(i, itemStream, saveDir, requestSizePermitted, request);
+                        return;
+                    }
+
                     // Delegate the file item stream for a file field to the
                     // file item stream handler, but delegation is skipped
                     // if the requestSizePermitted check failed based on the
@@ -248,6 +281,88 @@ public class JakartaStreamMultiPartRequest extends AbstractMultiPartRequest {
         }
     }
 
+    /* (non-Javadoc)
+     * @see org.apache.struts2.dispatcher.multipart.MultiPartRequest#hasPendingParts()
+     */
+    @Override
+    public boolean hasPendingParts() {
+        return pendingParts != null;
+    }
+
+    /* (non-Javadoc)
+     * @see org.apache.struts2.dispatcher.multipart.MultiPartRequest#parsePendingParts(org.apache.struts2.dispatcher.multipart.FilePartHandler)
+     */
+    @Override
+    public List<String> parsePendingParts(FilePartHandler handler) {
+        if (pendingParts == null) {
+            return Collections.emptyList();
+        }
+        final PendingParts pending = pendingParts;
+        pendingParts = null;
+
+        Set<String> fieldNames = new LinkedHashSet<>();
+        try {
+            FileItemStream itemStream = pending.first;
+            while (itemStream != null) {
+                try {
+                    if (itemStream.isFormField()) {
+                        processFileItemStreamAsFormField(itemStream);
+                        fieldNames.add(itemStream.getFieldName());
+                    } else if (!pending.requestSizePermitted) {
+                        addFileSkippedError(itemStream.getName(), pending.request);
+                        LOG.warn("Skipped stream '{}', request maximum size ({}) exceeded.", itemStream.getName(), maxSize);
+                    } else if (handler != null) {
+                        processFileItemStreamWithHandler(itemStream, handler);
+                    } else {
+                        processFileItemStreamAsFileField(itemStream, pending.saveDir);
+                    }
+                } catch (IOException e) {
+                    LOG.warn("Error occurred during process upload", e);
+                }
+                itemStream = pending.iterator.hasNext() ? pending.iterator.next() : null;
+            }
+        } catch (RuntimeException e) {
+            // thrown by the handler, e.g. the action receiving the stream, not an upload error
+            throw e;
+        } catch (Exception e) {
+            LOG.warn("Error occurred during parsing of multi part request", e);
+            LocalizedMessage errorMessage = buildErrorMessage(e, new Object[]{});
+            if (!errors.contains(errorMessage)) {
+                errors.add(errorMessage);
+            }
+        }
+        return new ArrayList<>(fieldNames);
+    }
+
+    /**
+     * Stores the pending file parts as files if nobody asked to stream them so far.
+     */
+    private void parseRemainingParts() {
+        if (pendingParts != null) {
+            parsePendingParts(null);
+        }
+    }
+
+    /**
+     * Passes a file part to the handler instead of storing it.
+     *
+     * @param itemStream file item stream
+     * @param handler the handler receiving the content
+     * @throws IOException in case of IO errors
+     */
+    protected void processFileItemStreamWithHandler(FileItemStream itemStream, FilePartHandler handler) throws IOException {
+        // Skip file uploads that don't have a file name - meaning that no file was selected.
+        if (itemStream.getName() == null || itemStream.getName().trim().length() < 1) {
+            LOG.debug("No file has been uploaded for the field: {}", itemStream.getFieldName());
+            return;
+        }
+
+        try (InputStream input = itemStream.openStream()) {
+            LOG.debug("Streaming file field '{}' to handler.", itemStream.getFieldName());
+            handler.handle(itemStream.getFieldName(), getCanonicalName(itemStream.getName()), itemStream.getContentType(), input);
+        }
+    }
+
     /**
      * Defines whether the request allowed based on content length.
      *
@@ -423,6 +538,27 @@ public class JakartaStreamMultiPartRequest extends AbstractMultiPartRequest {
         }
     }
 
+    /**
+     * The state of a parse which stopped at the first file part.
+     */
+    private static class PendingParts {
+
+        private final FileItemIterator iterator;
+        private final FileItemStream first;
+        private final String saveDir;
+        private final boolean requestSizePermitted;
+        private final HttpServletRequest request;
+
+        PendingParts(FileItemIterator iterator, FileItemStream first, String saveDir, boolean requestSizePermitted,
+                     HttpServletRequest request) {
+            this.iterator = iterator;
+            this.first = first;
+            this.saveDir = saveDir;
+            this.requestSizePermitted = requestSizePermitted;
+            this.request = request;
+        }
+    }
+
     /**
      * Internal data structure used to store a reference to information needed
      * to later pass post processing data to the <code>FileUploadInterceptor</code>.
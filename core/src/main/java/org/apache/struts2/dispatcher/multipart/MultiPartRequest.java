@@ -24,6 +24,7 @@ import org.apache.struts2.dispatcher.LocalizedMessage;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
 
@@ -118,4 +119,27 @@ public interface MultiPartRequest {
      */
     void cleanUp();
 
+    /**
+     * Indicates that {@link #parse(HttpServletRequest, String)} stopped at the first file part and the remaining
+     * parts of the request still have to be parsed with {@link #parsePendingParts(FilePartHandler)}.
+     *
+     * @return true if there are parts left to parse
+     * @since 2.6
+     */
+    default boolean hasPendingParts() {
+        return false;
+    }
+
+    /**
+     * Parses the parts left by {@link #parse(HttpServletRequest, String)}. Form fields are added to the parameters,
+     * file parts are passed to the handler or, if it is null, stored like during a regular parse.
+     *
+     * @param handler receives the file parts, may be null
+     * @return the names of the form fields found among the parsed parts
+     * @since 2.6
+     */
+    default List<String> parsePendingParts(FilePartHandler handler) {
+        return Collections.emptyList();
+    }
+
 }
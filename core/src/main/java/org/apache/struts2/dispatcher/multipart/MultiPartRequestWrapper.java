@@ -116,6 +116,36 @@ public class MultiPartRequestWrapper extends StrutsRequestWrapper {
         return multi.getFileParameterNames();
     }
 
+    /**
+     * @return true if the file parts of the request haven't been parsed yet
+     * @see MultiPartRequest#hasPendingParts()
+     * @since 2.6
+     */
+    public boolean hasPendingParts() {
+        return multi != null && multi.hasPendingParts();
+    }
+
+    /**
+     * Parses the remaining parts of the request, passing file parts to the handler (or storing them if it is null)
+     * and collecting any errors.
+     *
+     * @param handler receives the file parts, may be null
+     * @return the names of the form fields found among the parsed parts
+     * @see MultiPartRequest#parsePendingParts(FilePartHandler)
+     * @since 2.6
+     */
+    public List<String> parsePendingParts(FilePartHandler handler) {
+        if (multi == null) {
+            return Collections.emptyList();
+        }
+
+        List<String> fieldNames = multi.parsePendingParts(handler);
+        for (LocalizedMessage error : multi.getErrors()) {
+            addError(error);
+        }
+        return fieldNames;
+    }
+
     /**
      * Get an array of content encoding for the specified input field name or <tt>null</tt> if
      * no content type was specified.
@@ -19,9 +19,13 @@
 package org.apache.struts2.interceptor;
 
 import java.io.Serializable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import com.opensymphony.xwork2.ActionContext;
 import com.opensymphony.xwork2.ActionInvocation;
+import org.apache.struts2.interceptor.exec.ExecutorProvider;
 
 /**
  * Background thread to be executed by the ExecuteAndWaitInterceptor.
@@ -34,12 +38,13 @@ public class BackgroundProcess implements Serializable {
     //WW-4900 transient since 2.5.15
     transient protected ActionInvocation invocation;
     transient protected Exception exception;
+    transient private CountDownLatch doneSignal = new CountDownLatch(1);
 
     protected String result;
-    protected boolean done;
+    protected volatile boolean done;
 
     /**
-     * Constructs a background process
+     * Constructs a background process running in its own, new thread
      *
      * @param threadName The thread name
      * @param invocation The action invocation
@@ -48,27 +53,63 @@ public class BackgroundProcess implements Serializable {
     public BackgroundProcess(String threadName, final ActionInvocation invocation, int threadPriority) {
         this.invocation = invocation;
         try {
-            final Thread t = new Thread(new Runnable() {
-                public void run() {
-                    try {
-                        beforeInvocation();
-                        result = invocation.invokeActionOnly();
-                        afterInvocation();
-                    } catch (Exception e) {
-                        exception = e;
-                    }
-
-                    done = true;
-                }
-            });
+            final Thread t = new Thread(createTask(threadName, threadPriority));
             t.setName(threadName);
             t.setPriority(threadPriority);
             t.start();
         } catch (Exception e) {
             exception = e;
+            markDone();
         }
     }
 
+    /**
+     * Constructs a background process running in a thread of the given executor
+     *
+     * @param threadName The thread name used while the process runs
+     * @param invocation The action invocation
+     * @param threadPriority The thread priority used while the process runs
+     * @param executorProvider The executor running the process
+     * @throws RejectedExecutionException if the executor doesn't accept the process
+     * @since 2.6
+     */
+    public BackgroundProcess(String threadName, final ActionInvocation invocation, int threadPriority,
+                             ExecutorProvider executorProvider) throws RejectedExecutionException {
+        this.invocation = invocation;
+        executorProvider.execute(createTask(threadName, threadPriority));
+    }
+
+    private Runnable createTask(final String threadName, final int threadPriority) {
+        return new Runnable() {
+            public void run() {
+                final Thread thread = Thread.currentThread();
+                final String previousName = thread.getName();
+                final int previousPriority = thread.getPriority();
+                thread.setName(threadName);
+                thread.setPriority(threadPriority);
+                try {
+                    beforeInvocation();
+                    result = invocation.invokeActionOnly();
+                    afterInvocation();
+                } catch (Exception e) {
+                    exception = e;
+                } finally {
+                    // pooled threads must not keep the context of a failed action
+                    ActionContext.clear();
+                    thread.setName(previousName);
+                    thread.setPriority(previousPriority);
+                }
+
+                markDone();
+            }
+        };
+    }
+
+    private void markDone() {
+        done = true;
+        doneSignal.countDown();
+    }
+
     /**
      * Called before the background thread determines the result code
      * from the ActionInvocation.
@@ -134,4 +175,21 @@ public class BackgroundProcess implements Serializable {
     public boolean isDone() {
         return done;
     }
+
+    /**
+     * Waits until the background process is done or the given time elapsed.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the unit of the timeout
+     * @return <tt>true</tt> if finished, <tt>false</tt> otherwise
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     * @since 2.6
+     */
+    public boolean waitUntilDone(long timeout, TimeUnit unit) throws InterruptedException {
+        // null if de-serialized from a session, see WW-4900
+        if (doneSignal != null && !isDone()) {
+            doneSignal.await(timeout, unit);
+        }
+        return isDone();
+    }
 }
@@ -28,11 +28,16 @@ import com.opensymphony.xwork2.interceptor.MethodFilterInterceptor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.struts2.ServletActionContext;
+import org.apache.struts2.interceptor.exec.ExecutorProvider;
+import org.apache.struts2.util.SessionLocks;
 import org.apache.struts2.util.TokenHelper;
 import org.apache.struts2.views.freemarker.FreemarkerResult;
 
 import javax.servlet.http.HttpSession;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 
 /**
  * <!-- START SNIPPET: description -->
@@ -66,9 +71,8 @@ import java.util.Map;
  * </p>
  *
  * <p>This interceptor also supports using an initial wait delay. An initial delay is a time in milliseconds we let the
- * server wait before the wait page is shown to the user. During the wait this interceptor will wake every 100 millis
- * to check if the background process is done premature, thus if the job for some reason doesn't take to long the wait
- * page is not shown to the user.
+ * server wait before the wait page is shown to the user. The wait ends as soon as the background process is done,
+ * thus if the job for some reason doesn't take to long the wait page is not shown to the user.
  * <br> This is useful for e.g. search actions that have a wide span of execution time. Using a delay time of 2000
  * millis we ensure the user is presented fast search results immediately and for the slow results a wait page is used.
  * </p>
@@ -78,8 +82,11 @@ import java.util.Map;
  * rather than calling ActionContext.getSession().
  * </p>
  *
- * <p>The thread kicked off by this interceptor will be named in the form <b><u>actionName</u>BackgroundProcess</b>.
- * For example, the <i>search</i> action would run as a thread named <i>searchBackgroundProcess</i>.
+ * <p>The background processes run in a bounded thread pool provided by the
+ * {@link org.apache.struts2.interceptor.exec.ExecutorProvider} bean, see the <code>struts.executeAndWait.*</code>
+ * constants; the pool is shared by all interceptors and shut down with the Dispatcher. When all threads are busy and the queue is
+ * full the process is rejected and the <b>rejected</b> result is returned instead. While running, the thread is named in the form <b><u>actionName</u>BackgroundThread</b>.
+ * For example, the <i>search</i> action would run in a thread named <i>searchBackgroundThread</i>.
  * </p>
  * <!-- END SNIPPET: description -->
  *
@@ -91,7 +98,8 @@ import java.util.Map;
  *
  * <li>threadPriority (optional) - the priority to assign the thread. Default is <code>Thread.NORM_PRIORITY</code>.</li>
  * <li>delay (optional) - an initial delay in millis to wait before the wait page is shown (returning <code>wait</code> as result code). Default is no initial delay.</li>
- * <li>delaySleepInterval (optional) - only used with delay. Used for waking up at certain intervals to check if the background process is already done. Default is 100 millis.</li>
+ * <li>delaySleepInterval (optional) - only used with delay, 0 disables the initial delay. The delay ends as soon as the background process is done. Default is 100 millis.</li>
+ * <li>rejectedResult (optional) - the result code returned when the background process cannot be started because the thread pool is exhausted. Default is <code>rejected</code>.</li>
  *
  * </ul>
  *
@@ -179,29 +187,41 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
 
     public static final String KEY = "__execWait";
     public static final String WAIT = "wait";
+    public static final String REJECTED = "rejected";
     protected int delay;
-    protected int delaySleepInterval = 100; // default sleep 100 millis before checking if background process is done
+    protected int delaySleepInterval = 100; // 0 disables the initial delay
     protected boolean executeAfterValidationPass = false;
+    protected String rejectedResult = REJECTED;
 
     private int threadPriority = Thread.NORM_PRIORITY;
 
     private Container container;
+    private ExecutorProvider executorProvider;
 
     @Inject
     public void setContainer(Container container) {
         this.container = container;
     }
 
+    @Inject(required = false)
+    public void setExecutorProvider(ExecutorProvider executorProvider) {
+        this.executorProvider = executorProvider;
+    }
+
     /**
-     * Creates a new background process
+     * Creates a new background process, run by the {@link ExecutorProvider} if one is available
      *
      * @param name The process name
      * @param actionInvocation The action invocation
      * @param threadPriority The thread priority
      * @return The new process
+     * @throws RejectedExecutionException if the executor doesn't accept another process
      */
     protected BackgroundProcess getNewBackgroundProcess(String name, ActionInvocation actionInvocation, int threadPriority) {
-        return new BackgroundProcess(name + "BackgroundThread", actionInvocation, threadPriority);
+        if (executorProvider == null) {
+            return new BackgroundProcess(name + "BackgroundThread", actionInvocation, threadPriority);
+        }
+        return new BackgroundProcess(name + "BackgroundThread", actionInvocation, threadPriority, executorProvider);
     }
 
     /**
@@ -238,9 +258,10 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
             }
         }
 
-        //sync on the real HttpSession as the session from the context is a wrap that is created
+        //lock on the real HttpSession as the session from the context is a wrap that is created
         //on every request
-        synchronized (httpSession) {
+        Lock lock = SessionLocks.lock(httpSession);
+        try {
             BackgroundProcess bp = (BackgroundProcess) session.get(KEY + name);
 
             //WW-4900 Checks if from a de-serialized session? so background thread missed, let's start a new one.
@@ -250,7 +271,12 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
             }
 
             if ((!executeAfterValidationPass || secondTime) && bp == null) {
-                bp = getNewBackgroundProcess(name, actionInvocation, threadPriority);
+                try {
+                    bp = getNewBackgroundProcess(name, actionInvocation, threadPriority);
+                } catch (RejectedExecutionException e) {
+                    LOG.warn("Background process [{}] rejected, returning result [{}]: {}", name, rejectedResult, e.getMessage());
+                    return rejectedResult;
+                }
                 session.put(KEY + name, bp);
                 performInitialDelay(bp); // first time let some time pass before showing wait page
                 secondTime = false;
@@ -299,6 +325,8 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
                 // this interceptor
                 return actionInvocation.invoke();
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -310,26 +338,21 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
      * <p>
      * When this interceptor is executed for the first time this methods handles any provided initial delay.
      * An initial delay is a time in milliseconds we let the server wait before we continue.
-     * <br> During the wait this interceptor will wake every 100 millis to check if the background
-     * process is done premature, thus if the job for some reason doesn't take to long the wait
-     * page is not shown to the user.
+     * <br> The wait ends as soon as the background process is done, thus if the job for some reason
+     * doesn't take to long the wait page is not shown to the user.
      * </p>
      *
      * @param bp the background process
-     * @throws InterruptedException is thrown by Thread.sleep
+     * @throws InterruptedException if interrupted while waiting
      */
     protected void performInitialDelay(BackgroundProcess bp) throws InterruptedException {
         if (delay <= 0 || delaySleepInterval <= 0) {
             return;
         }
 
-        int steps = delay / delaySleepInterval;
-        LOG.debug("Delaying for {} millis. (using {} steps)", delay, steps);
-        int step;
-        for (step = 0; step < steps && !bp.isDone(); step++) {
-            Thread.sleep(delaySleepInterval);
-        }
-        LOG.debug("Sleeping ended after {} steps and the background process is {}", step, (bp.isDone() ? " done" : " not done"));
+        LOG.debug("Delaying for {} millis.", delay);
+        boolean done = bp.waitUntilDone(delay, TimeUnit.MILLISECONDS);
+        LOG.debug("Delay ended and the background process is {}", (done ? "done" : "not done"));
     }
 
     /**
@@ -351,7 +374,8 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
     }
 
     /**
-     * Sets the sleep interval in millis (msec) when performing the initial delay.
+     * Sets the sleep interval in millis (msec) when performing the initial delay. The delay no longer polls the
+     * background process, it ends as soon as the process is done; 0 still disables the initial delay.
      *
      * @param delaySleepInterval in millis (0 for not used)
      */
@@ -369,5 +393,15 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
         this.executeAfterValidationPass = executeAfterValidationPass;
     }
 
+    /**
+     * Sets the result returned when the background process is rejected because the executor is exhausted,
+     * defaults to {@value #REJECTED}.
+     *
+     * @param rejectedResult the result code
+     */
+    public void setRejectedResult(String rejectedResult) {
+        this.rejectedResult = rejectedResult;
+    }
+
 
 }
@@ -24,15 +24,20 @@ import com.opensymphony.xwork2.inject.Inject;
 import com.opensymphony.xwork2.interceptor.AbstractInterceptor;
 import com.opensymphony.xwork2.interceptor.ValidationAware;
 import com.opensymphony.xwork2.util.TextParseUtil;
+import org.apache.commons.fileupload.util.LimitedInputStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.struts2.action.UploadStreamAware;
 import org.apache.struts2.dispatcher.LocalizedMessage;
 import org.apache.struts2.dispatcher.Parameter;
+import org.apache.struts2.dispatcher.multipart.FilePartHandler;
 import org.apache.struts2.dispatcher.multipart.MultiPartRequestWrapper;
 import org.apache.struts2.dispatcher.multipart.UploadedFile;
 import org.apache.struts2.util.ContentTypeMatcher;
 
 import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
 import java.text.NumberFormat;
 import java.util.*;
 
@@ -78,6 +83,12 @@ import java.util.*;
  *
  * </ul>
  *
+ * <p> When the <code>jakarta-stream</code> parser runs with <code>struts.multipart.streamFileParts</code> enabled, the
+ * file parts are parsed by this interceptor. Actions implementing {@link UploadStreamAware} then receive each accepted
+ * file as a stream instead of a {@link UploadedFile}, files exceeding <code>maximumSize</code> are cut off with the
+ * same field error. Form fields sent after the first file are added to the parameters afterwards.
+ * </p>
+ *
  * <!-- END SNIPPET: description -->
  *
  * <p><u>Interceptor parameters:</u></p>
@@ -252,6 +263,10 @@ public class FileUploadInterceptor extends AbstractInterceptor {
 
         MultiPartRequestWrapper multiWrapper = (MultiPartRequestWrapper) request;
 
+        if (multiWrapper.hasPendingParts()) {
+            parsePendingParts(ac, action, multiWrapper, validation);
+        }
+
         if (multiWrapper.hasErrors() && validation != null) {
             TextProvider textProvider = getTextProvider(action);
             for (LocalizedMessage error : multiWrapper.getErrors()) {
@@ -320,6 +335,95 @@ public class FileUploadInterceptor extends AbstractInterceptor {
         return invocation.invoke();
     }
 
+    /**
+     * Parses the file parts left in the request, streaming them to the action if it implements
+     * {@link UploadStreamAware}, and adds the form fields found after them to the parameters.
+     */
+    private void parsePendingParts(ActionContext ac, final Object action, MultiPartRequestWrapper multiWrapper,
+                                   final ValidationAware validation) {
+        FilePartHandler handler = null;
+        if (action instanceof UploadStreamAware) {
+            handler = new FilePartHandler() {
+                @Override
+                public void handle(String fieldName, String fileName, String contentType, InputStream content) throws IOException {
+                    if (acceptFileStream(action, fileName, contentType, fieldName, validation)) {
+                        streamFile((UploadStreamAware) action, fieldName, fileName, contentType, content, validation);
+                    }
+                }
+            };
+        }
+
+        List<String> fieldNames = multiWrapper.parsePendingParts(handler);
+        if (!fieldNames.isEmpty()) {
+            Map<String, Parameter> newParams = new HashMap<>();
+            for (String fieldName : fieldNames) {
+                newParams.put(fieldName, new Parameter.Request(fieldName, multiWrapper.getParameterValues(fieldName)));
+            }
+            ac.getParameters().appendAll(newParams);
+        }
+    }
+
+    private void streamFile(UploadStreamAware action, String inputName, String fileName, String contentType,
+                            InputStream content, ValidationAware validation) throws IOException {
+        if (maximumSize == null) {
+            action.withUploadStream(inputName, fileName, contentType, content);
+            return;
+        }
+
+        SizeLimitedInputStream limitedContent = new SizeLimitedInputStream(content, maximumSize);
+        try {
+            action.withUploadStream(inputName, fileName, contentType, limitedContent);
+        } catch (IOException | RuntimeException e) {
+            if (!limitedContent.exceeded) {
+                throw e;
+            }
+        }
+
+        // checked even if the action returned normally, it may have caught or wrapped the size error
+        if (limitedContent.exceeded) {
+            String errMsg = getTextMessage(action, "struts.messages.error.file.too.large", new String[]{inputName, fileName, fileName, "" + limitedContent.count, getMaximumSizeStr(action)});
+            if (validation != null) {
+                validation.addFieldError(inputName, errMsg);
+            }
+
+            if (LOG.isWarnEnabled()) {
+                LOG.warn(errMsg);
+            }
+        }
+    }
+
+    /**
+     * Override for added functionality. Checks if the proposed file stream is acceptable based on contentType and
+     * file name, the size is checked while the stream is read.
+     *
+     * @param action      - uploading action for message retrieval.
+     * @param filename    - name of the file.
+     * @param contentType - contentType of the file.
+     * @param inputName   - inputName of the file.
+     * @param validation  - Non-null ValidationAware if the action implements ValidationAware, allowing for better
+     *                    logging.
+     * @return true if the proposed file stream is acceptable by contentType and file name.
+     */
+    protected boolean acceptFileStream(Object action, String filename, String contentType, String inputName, ValidationAware validation) {
+        String errMsg = null;
+        if ((!allowedTypesSet.isEmpty()) && (!containsItem(allowedTypesSet, contentType))) {
+            errMsg = getTextMessage(action, "struts.messages.error.content.type.not.allowed", new String[]{inputName, filename, filename, contentType});
+        } else if ((!allowedExtensionsSet.isEmpty()) && (!hasAllowedExtension(allowedExtensionsSet, filename))) {
+            errMsg = getTextMessage(action, "struts.messages.error.file.extension.not.allowed", new String[]{inputName, filename, filename, contentType});
+        }
+
+        if (errMsg == null) {
+            return true;
+        }
+        if (validation != null) {
+            validation.addFieldError(inputName, errMsg);
+        }
+        if (LOG.isWarnEnabled()) {
+            LOG.warn(errMsg);
+        }
+        return false;
+    }
+
     /**
      * Override for added functionality. Checks if the proposed file is acceptable based on contentType and size.
      *
@@ -446,6 +550,26 @@ public class FileUploadInterceptor extends AbstractInterceptor {
         return tpf.createInstance(action.getClass());
     }
 
+    /**
+     * Fails reading once more than the allowed number of bytes has been read.
+     */
+    private static class SizeLimitedInputStream extends LimitedInputStream {
+
+        private boolean exceeded;
+        private long count;
+
+        SizeLimitedInputStream(InputStream inputStream, long sizeMax) {
+            super(inputStream, sizeMax);
+        }
+
+        @Override
+        protected void raiseError(long sizeMax, long count) throws IOException {
+            this.exceeded = true;
+            this.count = count;
+            throw new IOException("Maximum file size of " + sizeMax + " bytes exceeded");
+        }
+    }
+
     private LocaleProvider getLocaleProvider(Object action) {
         LocaleProvider localeProvider;
         if (action instanceof LocaleProvider) {
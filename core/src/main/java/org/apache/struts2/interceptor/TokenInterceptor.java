@@ -27,9 +27,11 @@ import com.opensymphony.xwork2.interceptor.MethodFilterInterceptor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.struts2.ServletActionContext;
+import org.apache.struts2.util.SessionLocks;
 import org.apache.struts2.util.TokenHelper;
 
 import javax.servlet.http.HttpSession;
+import java.util.concurrent.locks.Lock;
 
 /**
  * <!-- START SNIPPET: description -->
@@ -143,10 +145,13 @@ public class TokenInterceptor extends MethodFilterInterceptor {
         //see WW-2902: we need to use the real HttpSession here, as opposed to the map
         //that wraps the session, because a new wrap is created on every request
         HttpSession session = ServletActionContext.getRequest().getSession(true);
-        synchronized (session.getId().intern()) {
+        Lock lock = SessionLocks.lock(session);
+        try {
             if (!TokenHelper.validToken()) {
                 return handleInvalidToken(invocation);
             }
+        } finally {
+            lock.unlock();
         }
         return handleValidToken(invocation);
     }
@@ -25,11 +25,13 @@ import com.opensymphony.xwork2.util.ValueStack;
 import org.apache.struts2.ServletActionContext;
 import org.apache.struts2.dispatcher.HttpParameters;
 import org.apache.struts2.util.InvocationSessionStore;
+import org.apache.struts2.util.SessionLocks;
 import org.apache.struts2.util.TokenHelper;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
+import java.util.concurrent.locks.Lock;
 
 /**
  * <!-- START SNIPPET: description -->
@@ -104,11 +106,14 @@ public class TokenSessionStoreInterceptor extends TokenInterceptor {
         //see WW-2902: we need to use the real HttpSession here, as opposed to the map
         //that wraps the session, because a new wrap is created on every request
         HttpSession session = ServletActionContext.getRequest().getSession(true);
-        synchronized (session.getId().intern()) {
+        Lock lock = SessionLocks.lock(session);
+        try {
             if (!TokenHelper.validToken()) {
                 return handleInvalidToken(invocation);
             }
             return handleValidToken(invocation);
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.interceptor.exec;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs the {@link org.apache.struts2.interceptor.BackgroundProcess}es started by the
+ * {@link org.apache.struts2.interceptor.ExecuteAndWaitInterceptor}. Implementations are managed by the container,
+ * shared by all interceptors and shut down by {@link org.apache.struts2.dispatcher.Dispatcher#cleanup()}.
+ *
+ * @since 2.6
+ */
+public interface ExecutorProvider {
+
+    /**
+     * Executes the given task in the background.
+     *
+     * @param task the task to execute
+     * @throws RejectedExecutionException if the task cannot be accepted, e.g. because all threads are busy and the
+     *                                    queue is full
+     */
+    void execute(Runnable task) throws RejectedExecutionException;
+
+    /**
+     * @return true if the provider has been shut down and doesn't accept new tasks anymore
+     */
+    boolean isShutdown();
+
+    /**
+     * Stops accepting new tasks, already accepted tasks are still executed.
+     */
+    void shutdown();
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.interceptor.exec;
+
+import com.opensymphony.xwork2.inject.Inject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.struts2.StrutsConstants;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Default {@link ExecutorProvider} backed by a bounded thread pool. The number of threads is limited by
+ * {@value StrutsConstants#STRUTS_EXECUTE_AND_WAIT_MAX_THREADS} and the number of processes waiting for a free
+ * thread by {@value StrutsConstants#STRUTS_EXECUTE_AND_WAIT_QUEUE_CAPACITY}, any further process is rejected.
+ * Idle threads are released after a minute.
+ *
+ * @since 2.6
+ */
+public class StrutsExecutorProvider implements ExecutorProvider {
+
+    private static final Logger LOG = LogManager.getLogger(StrutsExecutorProvider.class);
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private final ThreadPoolExecutor executor;
+
+    @Inject
+    public StrutsExecutorProvider(
+            @Inject(StrutsConstants.STRUTS_EXECUTE_AND_WAIT_MAX_THREADS) String maxThreads,
+            @Inject(StrutsConstants.STRUTS_EXECUTE_AND_WAIT_QUEUE_CAPACITY) String queueCapacity) {
+        this(Integer.parseInt(maxThreads), Integer.parseInt(queueCapacity));
+    }
+
+    public StrutsExecutorProvider(int maxThreads, int queueCapacity) {
+        if (maxThreads < 1) {
+            throw new IllegalArgumentException("At least one thread is required, but got " + maxThreads);
+        }
+        LOG.debug("Creating executor with {} threads and queue capacity {}", maxThreads, queueCapacity);
+        BlockingQueue<Runnable> queue = queueCapacity > 0
+                ? new LinkedBlockingQueue<Runnable>(queueCapacity)
+                : new SynchronousQueue<Runnable>();
+        executor = new ThreadPoolExecutor(maxThreads, maxThreads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, queue,
+                new BackgroundThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void execute(Runnable task) throws RejectedExecutionException {
+        executor.execute(task);
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    @Override
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static class BackgroundThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "StrutsBackgroundProcess-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
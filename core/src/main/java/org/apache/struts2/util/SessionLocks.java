@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.servlet.http.HttpSession;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Provides a lock per {@link HttpSession} used to serialize requests of the same session, e.g. by the token
+ * interceptors and the {@link org.apache.struts2.interceptor.ExecuteAndWaitInterceptor}.
+ * <p>
+ * The locks are kept in this JVM, keyed by session id, and only as long as a request holds or waits for them, so
+ * nothing is stored in the session and replicated or persistent sessions can't hand out copies of a lock. If the
+ * session id can't be read because the session has been invalidated, one of a fixed set of striped locks is used.
+ * This replaces synchronizing on the interned session id, which filled the JVM string table with session ids.
+ * </p>
+ * <p>
+ * The number of lock acquisitions, how many of them had to wait and the total time spent waiting are recorded and
+ * can be read with {@link #getAcquisitionCount()}, {@link #getContentionCount()} and {@link #getWaitTime(TimeUnit)}.
+ * </p>
+ *
+ * @since 2.6
+ */
+public final class SessionLocks {
+
+    private static final Logger LOG = LogManager.getLogger(SessionLocks.class);
+
+    private static final ConcurrentMap<String, SessionLock> LOCKS = new ConcurrentHashMap<>();
+
+    private static final int STRIPES = 64;
+    private static final ReentrantLock[] STRIPED_LOCKS = new ReentrantLock[STRIPES];
+
+    static {
+        for (int i = 0; i < STRIPES; i++) {
+            STRIPED_LOCKS[i] = new ReentrantLock();
+        }
+    }
+
+    private static final LongAdder acquisitions = new LongAdder();
+    private static final LongAdder contentions = new LongAdder();
+    private static final LongAdder waitNanos = new LongAdder();
+
+    private SessionLocks() {
+    }
+
+    /**
+     * Returns the lock of the given session and registers the caller as its user, the lock is dropped once all its
+     * users have released it.
+     */
+    private static Lock reference(HttpSession session) {
+        final String sessionId;
+        try {
+            sessionId = session.getId();
+        } catch (IllegalStateException e) {
+            LOG.debug("Session has been invalidated, using striped lock instead");
+            return STRIPED_LOCKS[(System.identityHashCode(session) & 0x7fffffff) % STRIPES];
+        }
+        return LOCKS.compute(sessionId, (id, lock) -> {
+            if (lock == null) {
+                lock = new SessionLock(id);
+            }
+            lock.users++;
+            return lock;
+        });
+    }
+
+    /**
+     * Acquires the lock of the given session, recording how long the caller had to wait for it. The returned lock
+     * must be released exactly once with {@link Lock#unlock()} in a finally block and must not be acquired again
+     * directly, use this method instead.
+     *
+     * @param session the http session
+     * @return the acquired lock
+     */
+    public static Lock lock(HttpSession session) {
+        final Lock lock = reference(session);
+        acquisitions.increment();
+        if (!lock.tryLock()) {
+            final long start = System.nanoTime();
+            lock.lock();
+            // the session may have been invalidated meanwhile, nothing may throw before the lock is returned
+            final long waited = System.nanoTime() - start;
+            contentions.increment();
+            waitNanos.add(waited);
+            LOG.trace("Waited {} ns for session lock {}", waited, lock);
+        }
+        return lock;
+    }
+
+    /**
+     * @return the number of session locks acquired so far
+     */
+    public static long getAcquisitionCount() {
+        return acquisitions.sum();
+    }
+
+    /**
+     * @return the number of session lock acquisitions which had to wait for another request
+     */
+    public static long getContentionCount() {
+        return contentions.sum();
+    }
+
+    /**
+     * @param unit the time unit of the result
+     * @return the total time spent waiting for session locks
+     */
+    public static long getWaitTime(TimeUnit unit) {
+        return unit.convert(waitNanos.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return the number of sessions whose lock is currently held or waited for
+     */
+    static int getLockCount() {
+        return LOCKS.size();
+    }
+
+    private static final class SessionLock extends ReentrantLock {
+
+        private final String sessionId;
+
+        /** requests holding or waiting for this lock, guarded by the compute methods of {@link #LOCKS} */
+        private int users;
+
+        SessionLock(String sessionId) {
+            this.sessionId = sessionId;
+        }
+
+        @Override
+        public void unlock() {
+            super.unlock();
+            LOCKS.computeIfPresent(sessionId, (id, lock) -> --lock.users == 0 ? null : lock);
+        }
+
+        @Override
+        public String toString() {
+            return "[" + sessionId + "]";
+        }
+    }
+
+}
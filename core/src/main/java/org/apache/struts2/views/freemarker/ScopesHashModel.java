@@ -142,6 +142,14 @@ public class ScopesHashModel extends SimpleHash implements TemplateModel {
         return null;
     }
 
+    /**
+     * Forgets the <tt>parameters</tt> found on the stack, used when the model is reused to
+     * render another tag within the same request.
+     */
+    public void clearParametersCache() {
+        parametersCache = null;
+    }
+
     private Object findValueOnStack(final String key) {
         if ("parameters".equals(key)) {
             if (parametersCache != null) {
@@ -20,6 +20,8 @@ package org.apache.struts2.views.xslt;
 
 import com.opensymphony.xwork2.ActionContext;
 import com.opensymphony.xwork2.ActionInvocation;
+import com.opensymphony.xwork2.FileManager;
+import com.opensymphony.xwork2.FileManagerFactory;
 import com.opensymphony.xwork2.Result;
 import com.opensymphony.xwork2.inject.Inject;
 import com.opensymphony.xwork2.util.TextParseUtil;
@@ -37,10 +39,14 @@ import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintWriter;
 import java.net.URL;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * XSLTResult uses XSLT to transform an action object to XML.
@@ -55,14 +61,16 @@ public class XSLTResult implements Result {
     /** 'stylesheetLocation' parameter.  Points to the xsl. */
     public static final String DEFAULT_PARAM = "stylesheetLocation";
 
+    /** Default maximum number of cached templates */
+    public static final int DEFAULT_CACHE_MAX_SIZE = 100;
+
+    /** Maximum number of idle transformers kept per templates */
+    private static final int MAX_IDLE_TRANSFORMERS = 8;
+
     /**
      * Cache of all templates.
      */
-    private static final Map<String, Templates> templatesCache;
-
-    static {
-        templatesCache = new HashMap<>();
-    }
+    private static final ConcurrentMap<String, CachedTemplates> templatesCache = new ConcurrentHashMap<>();
 
     // Configurable Parameters
 
@@ -88,6 +96,8 @@ public class XSLTResult implements Result {
 
     private boolean parse;
     private AdapterFactory adapterFactory;
+    private int cacheMaxSize = DEFAULT_CACHE_MAX_SIZE;
+    private FileManager fileManager;
 
     public XSLTResult() {
     }
@@ -102,6 +112,22 @@ public class XSLTResult implements Result {
         this.noCache = BooleanUtils.toBoolean(xsltNoCache);
     }
 
+    @Inject(value = StrutsConstants.STRUTS_XSLT_CACHE_MAXSIZE, required = false)
+    public void setCacheMaxSize(String cacheMaxSize) {
+        this.cacheMaxSize = Integer.parseInt(cacheMaxSize);
+    }
+
+    /**
+     * Cached templates get recompiled when the {@link FileManager} reports the stylesheet changed,
+     * see {@link StrutsConstants#STRUTS_CONFIGURATION_XML_RELOAD}
+     *
+     * @param fileManagerFactory factory of the file manager
+     */
+    @Inject(required = false)
+    public void setFileManagerFactory(FileManagerFactory fileManagerFactory) {
+        this.fileManager = fileManagerFactory.getFileManager();
+    }
+
     public void setStylesheetLocation(String location) {
         this.stylesheetLocation = location;
     }
@@ -169,7 +195,7 @@ public class XSLTResult implements Result {
             Transformer transformer;
             if (location != null) {
                 templates = getTemplates(location);
-                transformer = templates.newTransformer();
+                transformer = borrowTransformer(location, templates);
             } else {
                 transformer = TransformerFactory.newInstance().newTransformer();
             }
@@ -205,6 +231,10 @@ public class XSLTResult implements Result {
 
             writer.flush(); // ...and flush...
 
+            if (templates != null) {
+                returnTransformer(location, templates, transformer);
+            }
+
             LOG.debug("Time: {}ms", (System.currentTimeMillis() - startTime));
 
         } catch (Exception e) {
@@ -254,30 +284,139 @@ public class XSLTResult implements Result {
         if (path == null)
             throw new TransformerException("Stylesheet path is null");
 
-        Templates templates = templatesCache.get(path);
-
-        if (noCache || (templates == null)) {
-            synchronized (templatesCache) {
-                URL resource = ServletActionContext.getServletContext().getResource(path);
+        if (noCache) {
+            return compileTemplates(path, getStylesheetResource(path));
+        }
 
-                if (resource == null) {
-                    throw new TransformerException("Stylesheet " + path + " not found in resources.");
+        CachedTemplates cached = templatesCache.get(path);
+        if (cached == null) {
+            evictIfNeeded();
+            cached = templatesCache.computeIfAbsent(path, CachedTemplates::new);
+        }
+        cached.lastAccess = System.nanoTime();
+
+        CompiledTemplates compiled = cached.compiled;
+        if (compiled == null || needsReloading(compiled)) {
+            // compiles the stylesheet once, other requests for the same stylesheet wait for it
+            synchronized (cached) {
+                compiled = cached.compiled;
+                if (compiled == null || needsReloading(compiled)) {
+                    URL resource = getStylesheetResource(path);
+                    compiled = new CompiledTemplates(compileTemplates(path, resource), resource);
+                    cached.compiled = compiled;
+                    if (fileManager != null) {
+                        fileManager.monitorFile(resource);
+                    }
                 }
+            }
+        }
+
+        return compiled.templates;
+    }
+
+    private URL getStylesheetResource(String path) throws TransformerException, IOException {
+        URL resource = ServletActionContext.getServletContext().getResource(path);
 
-                LOG.debug("Preparing XSLT stylesheet templates: {}", path);
+        if (resource == null) {
+            throw new TransformerException("Stylesheet " + path + " not found in resources.");
+        }
+        return resource;
+    }
+
+    private Templates compileTemplates(String path, URL resource) throws TransformerException, IOException {
+        LOG.debug("Preparing XSLT stylesheet templates: {}", path);
+
+        TransformerFactory factory = TransformerFactory.newInstance();
+        factory.setURIResolver(getURIResolver());
+        factory.setErrorListener(buildErrorListener());
+        try (InputStream in = resource.openStream()) {
+            return factory.newTemplates(new StreamSource(in));
+        }
+    }
 
-                TransformerFactory factory = TransformerFactory.newInstance();
-                factory.setURIResolver(getURIResolver());
-                factory.setErrorListener(buildErrorListener());
-                templates = factory.newTemplates(new StreamSource(resource.openStream()));
-                templatesCache.put(path, templates);
+    private boolean needsReloading(CompiledTemplates compiled) {
+        return fileManager != null && fileManager.fileNeedsReloading(compiled.resource);
+    }
+
+    private void evictIfNeeded() {
+        if (cacheMaxSize <= 0 || templatesCache.size() < cacheMaxSize) {
+            return;
+        }
+        CachedTemplates eldest = null;
+        for (CachedTemplates cached : templatesCache.values()) {
+            if (eldest == null || cached.lastAccess < eldest.lastAccess) {
+                eldest = cached;
             }
         }
+        if (eldest != null) {
+            LOG.debug("Evicting XSLT stylesheet templates: {}", eldest.path);
+            templatesCache.remove(eldest.path, eldest);
+        }
+    }
 
-        return templates;
+    private Transformer borrowTransformer(String path, Templates templates) throws TransformerConfigurationException {
+        CompiledTemplates compiled = findCompiledTemplates(path, templates);
+        if (compiled != null) {
+            Transformer transformer = compiled.transformers.poll();
+            if (transformer != null) {
+                compiled.idleTransformers.decrementAndGet();
+                return transformer;
+            }
+        }
+        return templates.newTransformer();
+    }
+
+    private void returnTransformer(String path, Templates templates, Transformer transformer) {
+        CompiledTemplates compiled = findCompiledTemplates(path, templates);
+        if (compiled == null) {
+            return;
+        }
+        if (compiled.idleTransformers.incrementAndGet() <= MAX_IDLE_TRANSFORMERS) {
+            transformer.reset();
+            compiled.transformers.offer(transformer);
+        } else {
+            compiled.idleTransformers.decrementAndGet();
+        }
+    }
+
+    private CompiledTemplates findCompiledTemplates(String path, Templates templates) {
+        if (noCache) {
+            return null;
+        }
+        CachedTemplates cached = templatesCache.get(path);
+        CompiledTemplates compiled = cached != null ? cached.compiled : null;
+        return compiled != null && compiled.templates == templates ? compiled : null;
     }
 
     protected Source getDOMSourceForStack(Object value) throws IllegalAccessException, InstantiationException {
         return new DOMSource(getAdapterFactory().adaptDocument("result", value) );
     }
+
+    /**
+     * Cache entry of a stylesheet
+     */
+    private static final class CachedTemplates {
+        private final String path;
+        private volatile CompiledTemplates compiled;
+        private volatile long lastAccess;
+
+        CachedTemplates(String path) {
+            this.path = path;
+        }
+    }
+
+    /**
+     * Compiled stylesheet with a pool of idle transformers
+     */
+    private static final class CompiledTemplates {
+        private final Templates templates;
+        private final URL resource;
+        private final Queue<Transformer> transformers = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger idleTransformers = new AtomicInteger();
+
+        CompiledTemplates(Templates templates, URL resource) {
+            this.templates = templates;
+            this.resource = resource;
+        }
+    }
 }
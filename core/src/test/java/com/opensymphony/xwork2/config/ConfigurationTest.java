@@ -31,8 +31,10 @@ import com.opensymphony.xwork2.inject.ContainerBuilder;
 import com.opensymphony.xwork2.mock.MockInterceptor;
 import com.opensymphony.xwork2.test.StubConfigurationProvider;
 import com.opensymphony.xwork2.util.location.LocatableProperties;
+import org.apache.struts2.StrutsConstants;
 import org.apache.struts2.dispatcher.HttpParameters;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -240,6 +242,34 @@ public class ConfigurationTest extends XWorkTestCase {
         mockContainerProvider.verify();
     }
     
+    public void testParallelBuildKeepsRuntimeConfiguration() {
+        Map<String, Map<String, ActionConfig>> expected = configuration.getRuntimeConfiguration().getActionConfigs();
+
+        XmlConfigurationProvider provider = new XmlConfigurationProvider("xwork-sample.xml");
+        container.inject(provider);
+        loadConfigurationProviders(provider, new StubConfigurationProvider() {
+            @Override
+            public void register(ContainerBuilder builder, LocatableProperties props) throws ConfigurationException {
+                props.setProperty(StrutsConstants.STRUTS_CONFIGURATION_PARALLEL_BUILD, "true");
+            }
+        });
+        Map<String, Map<String, ActionConfig>> actual = configuration.getRuntimeConfiguration().getActionConfigs();
+
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(actual.keySet()));
+        for (Map.Entry<String, Map<String, ActionConfig>> namespace : expected.entrySet()) {
+            Map<String, ActionConfig> actualConfigs = actual.get(namespace.getKey());
+            assertEquals(new ArrayList<>(namespace.getValue().keySet()), new ArrayList<>(actualConfigs.keySet()));
+            for (ActionConfig expectedConfig : namespace.getValue().values()) {
+                ActionConfig actualConfig = actualConfigs.get(expectedConfig.getName());
+                assertEquals(expectedConfig.getClassName(), actualConfig.getClassName());
+                assertEquals(expectedConfig.getPackageName(), actualConfig.getPackageName());
+                assertEquals(expectedConfig.getParams(), actualConfig.getParams());
+                assertEquals(expectedConfig.getResults().keySet(), actualConfig.getResults().keySet());
+                assertEquals(expectedConfig.getInterceptors().size(), actualConfig.getInterceptors().size());
+            }
+        }
+    }
+
     public void testInitForPackageProviders() {
         
         loadConfigurationProviders(new StubConfigurationProvider() {
@@ -27,6 +27,7 @@ import com.opensymphony.xwork2.util.WildcardHelper;
 import org.apache.struts2.util.RegexPatternMatcher;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class ActionConfigMatcherTest extends XWorkTestCase {
@@ -143,6 +144,21 @@ public class ActionConfigMatcherTest extends XWorkTestCase {
         
     }
 
+    public void testFirstMatchWinsAcrossLiteralPrefixes() {
+        Map<String, ActionConfig> configs = new LinkedHashMap<>();
+        configs.put("user/edit*", new ActionConfig.Builder("package", "user/edit*", "EditAction").build());
+        configs.put("user/*", new ActionConfig.Builder("package", "user/*", "UserAction").build());
+        configs.put("*/list", new ActionConfig.Builder("package", "*/list", "ListAction").build());
+        configs.put("user/edit/*", new ActionConfig.Builder("package", "user/edit/*", "EditItemAction").build());
+        ActionConfigMatcher orderedMatcher = new ActionConfigMatcher(new WildcardHelper(), configs, false);
+
+        assertEquals("EditAction", orderedMatcher.match("user/editName").getClassName());
+        assertEquals("EditItemAction", orderedMatcher.match("user/edit/item").getClassName());
+        assertEquals("UserAction", orderedMatcher.match("user/list").getClassName());
+        assertEquals("ListAction", orderedMatcher.match("group/list").getClassName());
+        assertNull(orderedMatcher.match("group/edit"));
+    }
+
     /**
      * Test to make sure the {@link AbstractMatcher#replaceParameters(Map, Map)} method isn't adding values to the
      * return value.
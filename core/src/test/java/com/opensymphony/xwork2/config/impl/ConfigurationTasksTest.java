@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.config.impl;
+
+import com.opensymphony.xwork2.config.ConfigurationException;
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+public class ConfigurationTasksTest extends TestCase {
+
+    public void testResultsKeepItemOrder() {
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            items.add(i);
+        }
+
+        List<String> results = ConfigurationTasks.map(items, new Function<Integer, String>() {
+            @Override
+            public String apply(Integer item) {
+                return "item" + item;
+            }
+        }, 4);
+
+        assertEquals(100, results.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("item" + i, results.get(i));
+        }
+    }
+
+    public void testFirstFailureIsRethrown() {
+        final ConfigurationException first = new ConfigurationException("first");
+        try {
+            ConfigurationTasks.map(Arrays.asList(1, 2, 3, 4), new Function<Integer, Integer>() {
+                @Override
+                public Integer apply(Integer item) {
+                    if (item == 2) {
+                        throw first;
+                    }
+                    if (item == 4) {
+                        throw new ConfigurationException("second");
+                    }
+                    return item;
+                }
+            }, 4);
+            fail("Exception expected");
+        } catch (ConfigurationException e) {
+            assertSame(first, e);
+        }
+    }
+
+    public void testTasksUseCallerContextClassLoader() {
+        final ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {
+        };
+        ClassLoader previous = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(classLoader);
+        try {
+            List<ClassLoader> results = ConfigurationTasks.map(Arrays.asList(1, 2, 3, 4), new Function<Integer, ClassLoader>() {
+                @Override
+                public ClassLoader apply(Integer item) {
+                    assertTrue(Thread.currentThread().getName().startsWith("StrutsConfigurationLoader-"));
+                    return Thread.currentThread().getContextClassLoader();
+                }
+            }, 4);
+
+            for (ClassLoader result : results) {
+                assertSame(classLoader, result);
+            }
+        } finally {
+            Thread.currentThread().setContextClassLoader(previous);
+        }
+    }
+
+}
@@ -461,6 +461,58 @@ public class XWorkConverterTest extends XWorkTestCase {
         assertEquals("blah", bar.getTitle());
     }
 
+    public void testConverterResolutionIsReused() {
+        CountingConverter countingConverter = new CountingConverter();
+        container.inject(countingConverter);
+
+        for (int i = 0; i < 3; i++) {
+            Object result = countingConverter.convertValue(context, new Bar(), null, "somethingElse", "12" + i, int.class);
+            assertEquals(120 + i, result);
+        }
+        assertEquals(1, countingConverter.resolutions);
+    }
+
+    public void testConverterResolutionIsReusedForIndexedProperties() {
+        CountingConverter countingConverter = new CountingConverter();
+        container.inject(countingConverter);
+
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> rowContext = new HashMap<>(context);
+            ReflectionContextState.updateCurrentPropertyPath(rowContext, "rows");
+            ReflectionContextState.updateCurrentPropertyPath(rowContext, i);
+            ReflectionContextState.setLastBeanClassAccessed(rowContext, ListAction.class);
+
+            Object result = countingConverter.convertValue(rowContext, new Bar(), null, "somethingElse", "12" + i, int.class);
+            assertEquals(120 + i, result);
+        }
+        assertEquals(1, countingConverter.resolutions);
+    }
+
+    public void testPathConverterIsStillResolved() {
+        CountingConverter countingConverter = new CountingConverter();
+        container.inject(countingConverter);
+
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> pathContext = new HashMap<>(context);
+            ReflectionContextState.updateCurrentPropertyPath(pathContext, "foo");
+            ReflectionContextState.setLastBeanClassAccessed(pathContext, Cat.class);
+
+            Object result = countingConverter.convertValue(pathContext, new Foo(), null, "number", "12" + i, int.class);
+            assertEquals(Integer.parseInt(new StringBuilder("12" + i).reverse().toString()), result);
+        }
+        assertEquals(2, countingConverter.resolutions);
+    }
+
+    public void testRegisteredConverterReplacesResolvedOne() {
+        assertFalse(converter.convertValue(null, null, null, null, "blah:123", Bar.class) instanceof Bar);
+
+        converter.registerConverter(Bar.class.getName(), new FooBarConverter());
+
+        Bar bar = (Bar) converter.convertValue(null, null, null, null, "blah:123", Bar.class);
+        assertEquals(123, bar.getSomethingElse());
+        assertEquals("blah", bar.getTitle());
+    }
+
     public void testStringToCustomTypeUsingCustomConverterFromProperties() throws Exception {
 
         ClassLoader cl = Thread.currentThread().getContextClassLoader();
@@ -777,6 +829,17 @@ public class XWorkConverterTest extends XWorkTestCase {
     public static class Bar1Impl implements Bar1 {
     }
 
+    static class CountingConverter extends XWorkConverter {
+
+        int resolutions;
+
+        @Override
+        protected Object getConverter(Class clazz, String property) {
+            resolutions++;
+            return super.getConverter(clazz, property);
+        }
+    }
+
     @Override
     protected void setUp() throws Exception {
         super.setUp();
@@ -20,6 +20,8 @@ package com.opensymphony.xwork2.inject;
 
 import junit.framework.TestCase;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.security.Permission;
 import java.util.concurrent.Callable;
 
@@ -42,6 +44,18 @@ public class ContainerImplTest extends TestCase {
         ContainerBuilder cb = new ContainerBuilder();
         cb.constant("methodCheck.name", "Lukasz");
         cb.constant("fieldCheck.name", "Lukasz");
+        cb.constant("constructorCheck.number", 7);
+        cb.factory(int.class, "nullNumber", new Factory<Integer>() {
+            @Override
+            public Integer create(Context context) {
+                return null;
+            }
+
+            @Override
+            public Class<? extends Integer> type() {
+                return Integer.class;
+            }
+        });
         cb.factory(EarlyInitializable.class, EarlyInitializableBean.class, Scope.SINGLETON);
         cb.factory(Initializable.class, InitializableBean.class, Scope.SINGLETON);
         cb.factory(EarlyInitializable.class, "prototypeEarlyInitializable", EarlyInitializableBean.class, Scope.PROTOTYPE);
@@ -121,6 +135,71 @@ public class ContainerImplTest extends TestCase {
         }
     }
 
+    public void testInjectorsUseMethodHandles() throws Exception {
+        Field field = FieldCheck.class.getDeclaredField("name");
+        field.setAccessible(true);
+        assertNotNull(ContainerImpl.createSetterHandle(field));
+        assertNotNull(ContainerImpl.createMethodHandle(ConstructorCheck.class.getMethod("setNumber", int.class)));
+        assertNotNull(ContainerImpl.createConstructorHandle(ConstructorCheck.class.getConstructor(String.class)));
+
+        ConstructorCheck constructorCheck = c.inject(ConstructorCheck.class);
+
+        assertEquals("Lukasz", constructorCheck.getName());
+        assertEquals(7, constructorCheck.getNumber());
+
+        HandleCheck handleCheck = c.inject(HandleCheck.class);
+
+        // reflection would show up as a sun.reflect accessor calling the member
+        assertEquals(ContainerImpl.ConstructorInjector.class.getName(), handleCheck.constructorCaller);
+        assertEquals(ContainerImpl.MethodInjector.class.getName(), handleCheck.methodCaller);
+    }
+
+    public void testMethodHandleArgumentMismatchIsReportedLikeReflection() throws Exception {
+        try {
+            c.inject(new NullNumberMethodCheck());
+            fail("Exception should be thrown!");
+        } catch (RuntimeException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+
+        try {
+            c.inject(NullNumberConstructorCheck.class);
+            fail("Exception should be thrown!");
+        } catch (RuntimeException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+            assertTrue(e.getCause().getMessage().contains("argument type mismatch"));
+        }
+
+        try {
+            c.inject(new NullNumberFieldCheck());
+            fail("Exception should be thrown!");
+        } catch (IllegalArgumentException expected) {
+            assertTrue(expected.getMessage().contains("null value"));
+        }
+    }
+
+    public void testIsAssignable() throws Exception {
+        assertTrue(ContainerImpl.isAssignable(String.class, null));
+        assertTrue(ContainerImpl.isAssignable(CharSequence.class, "text"));
+        assertFalse(ContainerImpl.isAssignable(Integer.class, "text"));
+        assertTrue(ContainerImpl.isAssignable(int.class, 7));
+        assertTrue(ContainerImpl.isAssignable(long.class, 7));
+        assertTrue(ContainerImpl.isAssignable(int.class, 'c'));
+        assertFalse(ContainerImpl.isAssignable(int.class, 7L));
+        assertFalse(ContainerImpl.isAssignable(int.class, null));
+        assertFalse(ContainerImpl.isAssignable(boolean.class, 1));
+    }
+
+    public void testMethodInjectorExceptionIsWrapped() throws Exception {
+        try {
+            c.inject(new FailingMethodCheck());
+            fail("Exception should be thrown!");
+        } catch (RuntimeException e) {
+            assertTrue(e.getCause() instanceof InvocationTargetException);
+            assertEquals("failed", e.getCause().getCause().getMessage());
+        }
+    }
+
     public void testEarlyInitializable() throws Exception {
         assertTrue("should being initialized already", EarlyInitializableBean.initializedEarly);
 
@@ -209,6 +288,74 @@ public class ContainerImplTest extends TestCase {
         }
     }
 
+    public static class ConstructorCheck {
+
+        private final String name;
+        private int number;
+
+        @Inject
+        public ConstructorCheck(@Inject("fieldCheck.name") String name) {
+            this.name = name;
+        }
+
+        @Inject("constructorCheck.number")
+        public void setNumber(int number) {
+            this.number = number;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+    }
+
+    public static class HandleCheck {
+
+        private final String constructorCaller;
+        private String methodCaller;
+
+        @Inject
+        public HandleCheck(@Inject("fieldCheck.name") String name) {
+            constructorCaller = new Throwable().getStackTrace()[1].getClassName();
+        }
+
+        @Inject("methodCheck.name")
+        public void setName(String name) {
+            methodCaller = new Throwable().getStackTrace()[1].getClassName();
+        }
+    }
+
+    public static class NullNumberMethodCheck {
+
+        @Inject("nullNumber")
+        public void setNumber(int number) {
+        }
+    }
+
+    public static class NullNumberConstructorCheck {
+
+        @Inject
+        public NullNumberConstructorCheck(@Inject("nullNumber") int number) {
+        }
+    }
+
+    public static class NullNumberFieldCheck {
+
+        @Inject("nullNumber")
+        private int number;
+    }
+
+    public static class FailingMethodCheck {
+
+        @Inject("methodCheck.name")
+        public void setName(String name) {
+            throw new IllegalStateException("failed");
+        }
+    }
+
     public static class MethodCheck {
 
         private String name;
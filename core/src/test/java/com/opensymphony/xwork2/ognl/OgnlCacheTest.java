@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.ognl;
+
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+public class OgnlCacheTest extends TestCase {
+
+    public void testDefaultCacheIsFlushedWhenOverflowed() {
+        OgnlCache<String, String> cache = new OgnlDefaultCache<>(2);
+
+        cache.putIfAbsent("a", "A");
+        cache.putIfAbsent("b", "B");
+        assertEquals(2, cache.size());
+
+        cache.putIfAbsent("c", "C");
+        assertEquals(0, cache.size());
+        assertEquals(3, cache.getEvictionCount());
+    }
+
+    public void testDefaultCacheIsSerializedEmpty() throws Exception {
+        OgnlDefaultCache<Object, String> cache = new OgnlDefaultCache<>(10);
+        cache.put(new Object(), "not serializable key");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(cache);
+        }
+        OgnlDefaultCache<Object, String> copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (OgnlDefaultCache<Object, String>) in.readObject();
+        }
+
+        assertEquals(0, copy.size());
+        assertEquals(10, copy.getMaxSize());
+        copy.put("key", "value");
+        assertEquals("value", copy.get("key"));
+        assertEquals(1, copy.getHitCount());
+    }
+
+    public void testDefaultCacheIsUnboundedWithoutMaxSize() {
+        OgnlCache<String, String> cache = new OgnlDefaultCache<>(0);
+
+        for (int i = 0; i < 100; i++) {
+            cache.put("key" + i, "value" + i);
+        }
+
+        assertEquals(100, cache.size());
+        assertEquals(0, cache.getEvictionCount());
+    }
+
+    public void testLRUCacheEvictsLeastRecentlyUsed() {
+        OgnlCache<String, String> cache = new OgnlLRUCache<>(2);
+
+        cache.put("a", "A");
+        cache.put("b", "B");
+        assertEquals("A", cache.get("a"));
+        cache.put("c", "C");
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertNull(cache.get("b"));
+        assertEquals("A", cache.get("a"));
+        assertEquals("C", cache.get("c"));
+        assertEquals(3, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    public void testLRUCacheEvictsInBatches() {
+        OgnlCache<String, String> cache = new OgnlLRUCache<>(20);
+
+        for (int i = 0; i < 20; i++) {
+            cache.put("key" + i, "value" + i);
+        }
+        assertEquals("value0", cache.get("key0"));
+        cache.put("key20", "value20");
+
+        assertEquals(18, cache.size());
+        assertEquals(3, cache.getEvictionCount());
+        assertEquals("value0", cache.get("key0"));
+        assertNull(cache.get("key1"));
+        assertEquals("value20", cache.get("key20"));
+    }
+
+    public void testLRUCacheRequiresMaxSize() {
+        try {
+            new OgnlLRUCache<String, String>(0);
+            fail("IllegalArgumentException expected");
+        } catch (IllegalArgumentException expected) {
+            // ok
+        }
+    }
+
+    public void testFactoryBuildsConfiguredCacheType() {
+        DefaultOgnlCacheFactory<String, String> factory = new DefaultOgnlCacheFactory<>();
+        assertTrue(factory.buildOgnlCache() instanceof OgnlDefaultCache);
+
+        factory.setCacheType("lru");
+        factory.setMaxSize("5");
+        OgnlCache<String, String> cache = factory.buildOgnlCache();
+        assertTrue(cache instanceof OgnlLRUCache);
+        assertEquals(5, cache.getMaxSize());
+    }
+
+}
@@ -158,6 +158,26 @@ public class OgnlUtilTest extends XWorkTestCase {
         assertTrue("Expression cache empty after usage ?", ognlUtil.expressionCacheSize() > 0);
     }
 
+    public void testLRUExpressionCache() throws OgnlException {
+        DefaultOgnlCacheFactory<String, Object> cacheFactory = new DefaultOgnlCacheFactory<>();
+        cacheFactory.setCacheType("lru");
+        cacheFactory.setMaxSize("2");
+        ognlUtil.setExpressionCacheFactory(cacheFactory);
+        ognlUtil.setEnableExpressionCache("true");
+
+        Object expr0 = ognlUtil.compile("one");
+        ognlUtil.compile("two");
+        // touch "one" so "two" becomes the least recently used expression
+        assertSame(expr0, ognlUtil.compile("one"));
+        ognlUtil.compile("three");
+
+        assertEquals(2, ognlUtil.expressionCacheSize());
+        assertEquals(1, ognlUtil.expressionCacheEvictionCount());
+        assertEquals(1, ognlUtil.expressionCacheHitCount());
+        assertEquals(3, ognlUtil.expressionCacheMissCount());
+        assertSame(expr0, ognlUtil.compile("one"));
+    }
+
     public void testClearBeanInfoCache() throws IntrospectionException {
         final TestBean1 testBean1 = new TestBean1();
         final TestBean2 testBean2 = new TestBean2();
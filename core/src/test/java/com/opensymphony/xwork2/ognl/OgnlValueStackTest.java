@@ -30,16 +30,21 @@ import com.opensymphony.xwork2.util.*;
 import com.opensymphony.xwork2.util.Foo;
 import com.opensymphony.xwork2.util.location.LocatableProperties;
 import com.opensymphony.xwork2.util.reflection.ReflectionContextState;
+import ognl.Ognl;
+import ognl.OgnlContext;
 import ognl.OgnlException;
 import ognl.PropertyAccessor;
 
 import java.io.*;
+import java.lang.reflect.Member;
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 import ognl.ParseException;
 
 import org.apache.commons.lang3.StringUtils;
@@ -127,6 +132,114 @@ public class OgnlValueStackTest extends XWorkTestCase {
         return getValueStackFactory();
     }
 
+    public void testCompiledPropertyChains() {
+        ognlUtil.setEnableExpressionCompilation("true");
+        ognlUtil.setExpressionCompilationThreshold("2");
+        try {
+            OgnlValueStack vs = createValueStack();
+
+            Dog dog = new Dog();
+            dog.setName("Rover");
+            Cat cat = new Cat();
+            cat.setName("Tom");
+            Foo foo = new Foo();
+            foo.setTitle("Mr");
+            cat.setFoo(foo);
+            dog.setHates(cat);
+            vs.push(dog);
+
+            for (int i = 0; i < 5; i++) {
+                assertEquals("Rover", vs.findValue("name"));
+                assertEquals("Tom", vs.findValue("hates.name"));
+                assertEquals("Mr", vs.findString("hates.foo.title"));
+                assertEquals("Mr", vs.findValue("hates.foo.title", String.class));
+            }
+            assertTrue(ognlUtil.isCompiledPropertyChain("name"));
+            assertTrue(ognlUtil.isCompiledPropertyChain("hates.name"));
+            assertTrue(ognlUtil.isCompiledPropertyChain("hates.foo.title"));
+
+            // null intermediate value falls back to OGNL
+            cat.setFoo(null);
+            assertNull(vs.findValue("hates.foo.title"));
+
+            // different stack shape falls back to OGNL
+            vs.push(cat);
+            assertEquals("Tom", vs.findValue("name"));
+            assertEquals("Rover", vs.findValue("[1].name"));
+            vs.pop();
+            assertEquals("Rover", vs.findValue("name"));
+        } finally {
+            ognlUtil.setEnableExpressionCompilation("false");
+        }
+    }
+
+    public void testPropertyChainCompilationIsRetried() throws Exception {
+        OgnlValueStack vs = createValueStack();
+        Dog dog = new Dog();
+        dog.setName("Rover");
+        vs.push(dog);
+        vs.push(new HashMap<String, Object>());
+        OgnlContext context = (OgnlContext) vs.getContext();
+        OgnlPropertyChainAccessor accessor = new OgnlPropertyChainAccessor("name", 2);
+
+        // a map above the owner prevents compilation
+        for (int i = 0; i < 2 * (OgnlPropertyChainAccessor.MAX_COMPILATION_ATTEMPTS - 1); i++) {
+            assertSame(OgnlPropertyChainAccessor.NOT_RESOLVED, accessor.getValue(context, vs.getRoot()));
+        }
+        assertFalse(accessor.isCompiled());
+
+        vs.pop();
+        assertSame(OgnlPropertyChainAccessor.NOT_RESOLVED, accessor.getValue(context, vs.getRoot()));
+        assertEquals("Rover", accessor.getValue(context, vs.getRoot()));
+        assertTrue(accessor.isCompiled());
+    }
+
+    public void testPropertyChainAccessChecksAreSharedByStacks() throws Exception {
+        OgnlValueStack vs = createValueStack();
+        Dog dog = new Dog();
+        dog.setName("Rover");
+        vs.push(dog);
+        OgnlPropertyChainAccessor accessor = new OgnlPropertyChainAccessor("name", 1);
+
+        CountingMemberAccess first = new CountingMemberAccess();
+        OgnlContext firstContext = (OgnlContext) Ognl.createDefaultContext(vs.getRoot(), first);
+        assertEquals("Rover", accessor.getValue(firstContext, vs.getRoot()));
+        assertTrue(accessor.isCompiled());
+        int checks = first.checks;
+        assertEquals("Rover", accessor.getValue(firstContext, vs.getRoot()));
+        assertEquals(checks, first.checks);
+
+        // the member access of another stack with the same settings
+        CountingMemberAccess second = new CountingMemberAccess();
+        OgnlContext secondContext = (OgnlContext) Ognl.createDefaultContext(vs.getRoot(), second);
+        assertEquals("Rover", accessor.getValue(secondContext, vs.getRoot()));
+        assertEquals(0, second.checks);
+
+        second.setExcludeProperties(Collections.singleton(Pattern.compile("name")));
+        assertSame(OgnlPropertyChainAccessor.NOT_RESOLVED, accessor.getValue(secondContext, vs.getRoot()));
+        assertEquals(1, second.checks);
+    }
+
+    public void testPropertyChainCompilationGivesUp() throws Exception {
+        OgnlValueStack vs = createValueStack();
+        Dog dog = new Dog();
+        dog.setName("Rover");
+        vs.push(dog);
+        vs.push(new HashMap<String, Object>());
+        OgnlContext context = (OgnlContext) vs.getContext();
+        OgnlPropertyChainAccessor accessor = new OgnlPropertyChainAccessor("name", 2);
+
+        for (int i = 0; i < 2 * OgnlPropertyChainAccessor.MAX_COMPILATION_ATTEMPTS; i++) {
+            assertSame(OgnlPropertyChainAccessor.NOT_RESOLVED, accessor.getValue(context, vs.getRoot()));
+        }
+
+        vs.pop();
+        for (int i = 0; i < 5; i++) {
+            assertSame(OgnlPropertyChainAccessor.NOT_RESOLVED, accessor.getValue(context, vs.getRoot()));
+        }
+        assertFalse(accessor.isCompiled());
+    }
+
     public void testExpOverridesCanStackExpUp() throws Exception {
         Map expr1 = new LinkedHashMap();
         expr1.put("expr1", "'expr1value'");
@@ -1404,6 +1517,51 @@ public class OgnlValueStackTest extends XWorkTestCase {
         assertNull("accessed private field (result not null) ?", accessedValue);
     }
 
+    public void testReleasedValueStackIsReused() {
+        OgnlValueStackFactory factory = container.inject(OgnlValueStackFactory.class);
+        factory.setValueStackPoolSize("2");
+        ValueStack parent = factory.createValueStack();
+        Dog dog = new Dog();
+        parent.push(dog);
+
+        ValueStack stack = factory.createValueStack(parent);
+        stack.push(new Cat());
+        stack.getContext().put("foo", "bar");
+        factory.releaseValueStack(stack);
+
+        ValueStack reused = factory.createValueStack(parent);
+        assertSame(stack, reused);
+        assertEquals(parent.getRoot(), reused.getRoot());
+        assertSame(dog, reused.peek());
+        assertNull(reused.getContext().get("foo"));
+        assertSame(reused, reused.getContext().get(ActionContext.VALUE_STACK));
+        assertNotSame(reused, factory.createValueStack(parent));
+    }
+
+    public void testValueStacksAreNotReusedByDefault() {
+        ValueStackFactory factory = getValueStackFactory();
+        ValueStack parent = factory.createValueStack();
+
+        ValueStack stack = factory.createValueStack(parent);
+        factory.releaseValueStack(stack);
+
+        assertNotSame(stack, factory.createValueStack(parent));
+    }
+
+    public void testValueStackReleasedTwiceIsReusedOnceInDevMode() {
+        OgnlValueStackFactory factory = container.inject(OgnlValueStackFactory.class);
+        factory.setValueStackPoolSize("2");
+        factory.setDevMode("true");
+        ValueStack parent = factory.createValueStack();
+
+        ValueStack stack = factory.createValueStack(parent);
+        factory.releaseValueStack(stack);
+        factory.releaseValueStack(stack);
+
+        assertSame(stack, factory.createValueStack(parent));
+        assertNotSame(stack, factory.createValueStack(parent));
+    }
+
     /**
      * Test a raw OgnlValueStackFactory and OgnlValueStack generated by it
      * when static method access flag is true, static field access flag is false.
@@ -1622,6 +1780,21 @@ public class OgnlValueStackTest extends XWorkTestCase {
             logEvents.add(logEvent);
         }
     }
+
+    private static class CountingMemberAccess extends SecurityMemberAccess {
+
+        private int checks;
+
+        CountingMemberAccess() {
+            super(false, false);
+        }
+
+        @Override
+        public boolean isAccessible(Map context, Object target, Member member, String propertyName) {
+            checks++;
+            return super.isAccessible(context, target, member, propertyName);
+        }
+    }
 }
 
 enum MyNumbers {
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.ognl.accessor;
+
+import com.opensymphony.xwork2.ActionContext;
+import com.opensymphony.xwork2.XWorkTestCase;
+import com.opensymphony.xwork2.util.ValueStack;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class CompoundRootAccessorTest extends XWorkTestCase {
+
+    public void testPropertyFoundBelowOtherObjects() {
+        ValueStack vs = ActionContext.getContext().getValueStack();
+        Owner owner = new Owner();
+        vs.push(owner);
+        vs.push(new Other());
+        vs.push(new Other());
+
+        for (int i = 0; i < 3; i++) {
+            vs.setValue("title", "title" + i);
+            assertEquals("title" + i, owner.getTitle());
+            assertEquals("title" + i, vs.findValue("title"));
+        }
+        assertEquals("other", vs.findValue("label"));
+    }
+
+    public void testMapAboveOwnerIsAlwaysChecked() {
+        ValueStack vs = ActionContext.getContext().getValueStack();
+        Owner owner = new Owner();
+        owner.setTitle("owner");
+        Map<String, Object> map = new HashMap<>();
+        vs.push(owner);
+        vs.push(map);
+
+        assertEquals("owner", vs.findValue("title"));
+
+        map.put("title", "map");
+        assertEquals("map", vs.findValue("title"));
+    }
+
+    public void testSameClassesInOtherOrder() {
+        ValueStack vs = ActionContext.getContext().getValueStack();
+        Owner owner = new Owner();
+        owner.setTitle("owner");
+        vs.push(owner);
+        vs.push(new Other());
+        assertEquals("owner", vs.findValue("title"));
+
+        vs.pop();
+        vs.pop();
+        vs.push(new Other());
+        vs.push(owner);
+        assertEquals("owner", vs.findValue("title"));
+        assertEquals("other", vs.findValue("label"));
+    }
+
+    public static class Owner {
+        private String title;
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+    }
+
+    public static class Other {
+        public String getLabel() {
+            return "other";
+        }
+    }
+
+}
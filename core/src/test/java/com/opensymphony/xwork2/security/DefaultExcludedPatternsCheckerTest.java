@@ -157,6 +157,71 @@ public class DefaultExcludedPatternsCheckerTest extends XWorkTestCase {
         }
     }
 
+    public void testReportsMatchingPattern() throws Exception {
+        // given
+        ExcludedPatternsChecker checker = new DefaultExcludedPatternsChecker();
+        checker.setExcludedPatterns(new String[]{"(a)(b)", "(c)+d", "e(f)?"});
+
+        // when
+        ExcludedPatternsChecker.IsExcluded first = checker.isExcluded("AB");
+        ExcludedPatternsChecker.IsExcluded second = checker.isExcluded("ccD");
+        ExcludedPatternsChecker.IsExcluded third = checker.isExcluded("e");
+        ExcludedPatternsChecker.IsExcluded none = checker.isExcluded("abe");
+
+        // then
+        assertTrue(first.isExcluded());
+        assertEquals("(a)(b)", first.getExcludedPattern());
+        assertTrue(second.isExcluded());
+        assertEquals("(c)+d", second.getExcludedPattern());
+        assertTrue(third.isExcluded());
+        assertEquals("e(f)?", third.getExcludedPattern());
+        assertFalse(none.isExcluded());
+    }
+
+    public void testBackReferencesAreMatchedPerPattern() throws Exception {
+        // given
+        ExcludedPatternsChecker checker = new DefaultExcludedPatternsChecker();
+        checker.setExcludedPatterns(new String[]{"(x)y", "(a)\\1"});
+
+        // when
+        ExcludedPatternsChecker.IsExcluded actual = checker.isExcluded("aa");
+
+        // then
+        assertTrue(actual.isExcluded());
+        assertEquals("(a)\\1", actual.getExcludedPattern());
+        assertFalse(checker.isExcluded("ax").isExcluded());
+    }
+
+    public void testVerdictsFollowPatternChanges() throws Exception {
+        // given
+        DefaultExcludedPatternsChecker checker = new DefaultExcludedPatternsChecker();
+        assertFalse(checker.isExcluded("user.name").isExcluded());
+
+        // when
+        checker.setAdditionalExcludePatterns("user\\..*");
+
+        // then
+        assertTrue(checker.isExcluded("user.name").isExcluded());
+        assertFalse(checker.isExcluded("user").isExcluded());
+    }
+
+    public void testCheckersWithSamePatternsShareMatcher() throws Exception {
+        // given
+        DefaultExcludedPatternsChecker checker = new DefaultExcludedPatternsChecker();
+        DefaultExcludedPatternsChecker other = new DefaultExcludedPatternsChecker();
+
+        // then
+        assertSame(PatternSetMatcher.forPatterns(checker.getExcludedPatterns()),
+                PatternSetMatcher.forPatterns(other.getExcludedPatterns()));
+
+        // when
+        other.setAdditionalExcludePatterns("user\\..*");
+
+        // then
+        assertNotSame(PatternSetMatcher.forPatterns(checker.getExcludedPatterns()),
+                PatternSetMatcher.forPatterns(other.getExcludedPatterns()));
+    }
+
     public void testExcludedPatternsImmutable() throws Exception {
         ExcludedPatternsChecker checker = new DefaultExcludedPatternsChecker();
 
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.opensymphony.xwork2.util;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class OgnlTextParserTest extends TestCase {
+
+    private static final char[] OPEN_CHARS = new char[]{'$', '%'};
+
+    private OgnlTextParser parser;
+    private Map<String, Object> values;
+    private List<String> evaluated;
+    private TextParseUtil.ParsedValueEvaluator evaluator;
+
+    public void testParsedTextIsCached() {
+        TextParser.ParsedText parsedText = parser.parse(OPEN_CHARS, "Hello ${name}!", 1);
+
+        assertSame(parsedText, parser.parse(OPEN_CHARS, "Hello ${name}!", 1));
+        assertNotSame(parsedText, parser.parse(new char[]{'$'}, "Hello ${name}!", 1));
+    }
+
+    public void testParsedText() {
+        values.put("name", "World");
+        values.put("count", 3);
+
+        assertEquals("Hello World!", parser.parse(OPEN_CHARS, "Hello ${name}!", 1).evaluate(evaluator));
+        assertEquals("World has 3 items", parser.parse(OPEN_CHARS, "${name} has %{count} items", 1).evaluate(evaluator));
+        assertEquals("no expressions", parser.parse(OPEN_CHARS, "no expressions", 1).evaluate(evaluator));
+        assertEquals("", parser.parse(OPEN_CHARS, null, 1).evaluate(evaluator));
+    }
+
+    public void testParsedTextSingleExpressionKeepsType() {
+        values.put("count", 3);
+
+        assertEquals(3, parser.parse(OPEN_CHARS, "${count}", 1).evaluate(evaluator));
+        assertEquals("3", parser.parse(OPEN_CHARS, "${count} ", 1).evaluate(evaluator).toString().trim());
+    }
+
+    public void testParsedTextEvaluatesLikeEvaluate() {
+        values.put("a", "value");
+        values.put("b", "%{a}");
+        values.put("c", "50%");
+        values.put("d", "");
+
+        String[] texts = new String[]{
+                "${a}${b}", "%{a} ${b}", "${b} %{a}", "${c}{a}", "${d}${a}", "${missing}${a}", "%{a ${a}}", "${a", "{${a}}"
+        };
+        for (String text : texts) {
+            evaluated.clear();
+            Object expected = parser.evaluate(OPEN_CHARS, text, evaluator, 1);
+            List<String> expectedEvaluated = new ArrayList<>(evaluated);
+
+            for (int i = 0; i < 2; i++) {
+                evaluated.clear();
+                assertEquals(text, expected, parser.parse(OPEN_CHARS, text, 1).evaluate(evaluator));
+                assertEquals(text, expectedEvaluated, evaluated);
+            }
+        }
+    }
+
+    public void testParsedTextWithLoopCount() {
+        values.put("a", "${b}");
+        values.put("b", "value");
+
+        assertEquals("value", parser.parse(new char[]{'$'}, "${a}", 2).evaluate(evaluator));
+        assertEquals("${b}", parser.parse(new char[]{'$'}, "${a}", 1).evaluate(evaluator));
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        parser = new OgnlTextParser();
+        values = new HashMap<>();
+        evaluated = new ArrayList<>();
+        evaluator = new TextParseUtil.ParsedValueEvaluator() {
+            public Object evaluate(String parsedValue) {
+                evaluated.add(parsedValue);
+                return values.get(parsedValue);
+            }
+        };
+    }
+}
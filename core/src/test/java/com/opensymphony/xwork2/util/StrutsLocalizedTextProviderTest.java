@@ -179,7 +179,7 @@ public class StrutsLocalizedTextProviderTest extends XWorkTestCase {
         mockActionInvocation.expectAndReturn("getAction", action);
         ActionContext.getContext().withActionInvocation((ActionInvocation) mockActionInvocation.proxy());
 
-        String message = localizedTextProvider.findText(ModelDrivenAction2.class, "test.foo", Locale.getDefault());
+        String message = localizedTextProvider.findText(TestBean2.class, "test.foo", Locale.getDefault());
         assertEquals("Foo!", message);
     }
 
@@ -318,6 +318,47 @@ public class StrutsLocalizedTextProviderTest extends XWorkTestCase {
         testStrutsLocalizedTextProvider.callClearMissingBundlesCache();
     }
 
+    public void testFindTextResolutionIsCached() {
+        TestStrutsLocalizedTextProvider testStrutsLocalizedTextProvider = new TestStrutsLocalizedTextProvider();
+
+        assertEquals("Foo!", testStrutsLocalizedTextProvider.findText(TestBean2.class, "test.foo", Locale.getDefault()));
+        int firstLookups = testStrutsLocalizedTextProvider.bundleLookups;
+        assertTrue(firstLookups > 1);
+
+        // only the bundle which resolved the key is used
+        testStrutsLocalizedTextProvider.bundleLookups = 0;
+        assertEquals("Foo!", testStrutsLocalizedTextProvider.findText(TestBean2.class, "test.foo", Locale.getDefault()));
+        assertEquals(1, testStrutsLocalizedTextProvider.bundleLookups);
+
+        // misses are remembered as well
+        testStrutsLocalizedTextProvider.bundleLookups = 0;
+        testStrutsLocalizedTextProvider.findText(TestBean2.class, "test.missing", Locale.getDefault());
+        int missLookups = testStrutsLocalizedTextProvider.bundleLookups;
+        testStrutsLocalizedTextProvider.bundleLookups = 0;
+        testStrutsLocalizedTextProvider.findText(TestBean2.class, "test.missing", Locale.getDefault());
+        assertTrue(testStrutsLocalizedTextProvider.bundleLookups < missLookups);
+
+        // clearing caches forces a new search
+        testStrutsLocalizedTextProvider.callClearMissingBundlesCache();
+        testStrutsLocalizedTextProvider.bundleLookups = 0;
+        assertEquals("Foo!", testStrutsLocalizedTextProvider.findText(TestBean2.class, "test.foo", Locale.getDefault()));
+        assertEquals(firstLookups, testStrutsLocalizedTextProvider.bundleLookups);
+    }
+
+    public void testFindTextResolutionIsClearedOnReload() {
+        TestStrutsLocalizedTextProvider testStrutsLocalizedTextProvider = new TestStrutsLocalizedTextProvider();
+        testStrutsLocalizedTextProvider.setReloadBundles("true");
+
+        assertEquals("Foo!", testStrutsLocalizedTextProvider.findText(TestBean2.class, "test.foo", Locale.getDefault()));
+        int firstLookups = testStrutsLocalizedTextProvider.bundleLookups;
+
+        // new request, bundles get reloaded
+        ActionContext.getContext().getContextMap().remove("com.opensymphony.xwork2.util.LocalizedTextProvider.reloaded");
+        testStrutsLocalizedTextProvider.bundleLookups = 0;
+        assertEquals("Foo!", testStrutsLocalizedTextProvider.findText(TestBean2.class, "test.foo", Locale.getDefault()));
+        assertEquals(firstLookups, testStrutsLocalizedTextProvider.bundleLookups);
+    }
+
     @Override
     protected void setUp() throws Exception {
         super.setUp();
@@ -343,6 +384,14 @@ public class StrutsLocalizedTextProviderTest extends XWorkTestCase {
      */
     class TestStrutsLocalizedTextProvider extends StrutsLocalizedTextProvider {
 
+        int bundleLookups;
+
+        @Override
+        public ResourceBundle findResourceBundle(String aBundleName, Locale locale) {
+            bundleLookups++;
+            return super.findResourceBundle(aBundleName, locale);
+        }
+
         public void callClearBundleNoLocale(String bundleName) {
             super.clearBundle(bundleName);
 }
@@ -102,6 +102,19 @@ public class DefaultActionValidatorManagerTest extends XWorkTestCase {
         mockValidatorFileParser.verify();
     }
 
+    public void testValidatorConfigsAreParsedOnce() {
+        mockValidatorFileParser.expectAndReturn("parseActionValidatorConfigs",
+                C.args(C.IS_NOT_NULL, C.IS_NOT_NULL, C.eq("com/opensymphony/xwork2/SimpleAction-validation.xml")),
+                new ArrayList());
+        mockValidatorFileParser.expectAndReturn("parseActionValidatorConfigs",
+                C.args(C.IS_NOT_NULL, C.IS_NOT_NULL, C.eq("com/opensymphony/xwork2/SimpleAction-validationAlias-validation.xml")),
+                new ArrayList());
+        for (int i = 0; i < 3; i++) {
+            actionValidatorManager.getValidators(SimpleAction.class, alias);
+        }
+        mockValidatorFileParser.verify();
+    }
+
     public void testBuildsValidatorsForAliasError() {
         boolean pass = false;
         try {
@@ -515,6 +515,19 @@ public class ComponentTest extends AbstractTagTest {
         assertTrue("Component default htmlEscapeBody not true ?", component.escapeHtmlBody());
     }
 
+    public void testFindStringOfLiteralsAndExpressions() {
+        Property property = new Property(stack);
+        stack.getContext().put("first", "a");
+        stack.getContext().put("second", "b");
+
+        assertEquals("plain", property.findString("plain"));
+        assertEquals("a", property.findString("%{#first}"));
+        assertEquals("", property.findString("%{#missing}"));
+        assertEquals("a and b", property.findString("%{#first} and %{#second}"));
+        assertEquals("a-b", property.findString("%{#first}-%{#second}"));
+        assertEquals("a", property.findValue("%{#first}"));
+    }
+
     /**
      * Test the behaviour for Anchor body state methods.
       */
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.components;
+
+import junit.framework.TestCase;
+
+public class TagAttributeTest extends TestCase {
+
+    public void testLiteral() {
+        TagAttribute attribute = TagAttribute.of("cssClass");
+
+        assertTrue(attribute.isLiteral());
+        assertFalse(attribute.isSingleExpression());
+        assertEquals("cssClass", attribute.getStrippedValue());
+        assertSame(attribute, TagAttribute.of("cssClass"));
+    }
+
+    public void testSingleExpression() {
+        TagAttribute attribute = TagAttribute.of("%{user.name}");
+
+        assertFalse(attribute.isLiteral());
+        assertTrue(attribute.isSingleExpression());
+        assertEquals("user.name", attribute.getStrippedValue());
+
+        attribute = TagAttribute.of("%{#{'a':'b'}['a']}");
+        assertTrue(attribute.isSingleExpression());
+        assertEquals("#{'a':'b'}['a']", attribute.getStrippedValue());
+    }
+
+    public void testEmbeddedExpressions() {
+        TagAttribute attribute = TagAttribute.of("%{first} and %{second}");
+
+        assertFalse(attribute.isLiteral());
+        assertFalse(attribute.isSingleExpression());
+        assertEquals("first} and %{second", attribute.getStrippedValue());
+
+        attribute = TagAttribute.of("Hello %{name}");
+        assertFalse(attribute.isLiteral());
+        assertFalse(attribute.isSingleExpression());
+        assertEquals("Hello %{name}", attribute.getStrippedValue());
+    }
+
+}
@@ -30,6 +30,7 @@ import org.springframework.mock.web.MockHttpServletResponse;
 
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 public class UIBeanTest extends StrutsInternalTestCase {
@@ -200,6 +201,40 @@ public class UIBeanTest extends StrutsInternalTestCase {
         assertEquals(customTemplateName, customTemplate.getName());
     }
 
+    public void testBuildTemplateUsesEvaluatedThemeAndTemplateDir() throws Exception {
+        ValueStack stack = ActionContext.getContext().getValueStack();
+        MockHttpServletRequest req = new MockHttpServletRequest();
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        Map<String, String> context = new HashMap<>();
+        context.put("theme", "bar");
+        context.put("templateDir", "foo");
+        ActionContext.getContext().put("attr", context);
+
+        TextField txtFld = new TextField(stack, req, res);
+        txtFld.evaluateParams();
+        Template template = txtFld.buildTemplateName(null, "text");
+
+        assertEquals("bar", txtFld.getParameters().get("theme"));
+        assertEquals("foo", txtFld.getParameters().get("templateDir"));
+        assertEquals("bar", template.getTheme());
+        assertEquals("foo", template.getDir());
+        assertEquals("text", template.getName());
+    }
+
+    public void testBooleanLiteralAttributes() throws Exception {
+        ValueStack stack = ActionContext.getContext().getValueStack();
+        MockHttpServletRequest req = new MockHttpServletRequest();
+        MockHttpServletResponse res = new MockHttpServletResponse();
+
+        TextField txtFld = new TextField(stack, req, res);
+        txtFld.setDisabled("true");
+        txtFld.setRequiredLabel("false");
+        txtFld.evaluateParams();
+
+        assertEquals(Boolean.TRUE, txtFld.getParameters().get("disabled"));
+        assertEquals(Boolean.FALSE, txtFld.getParameters().get("required"));
+    }
+
     public void testGetTemplateDirExplicit() throws Exception {
         String explicitTemplateDir = "explicitTemplateDirectory";
         String attrTemplateDir = "attrTemplateDirectory";
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.components.template;
+
+import com.opensymphony.xwork2.ActionContext;
+import com.opensymphony.xwork2.util.ValueStack;
+import freemarker.cache.StringTemplateLoader;
+import freemarker.template.Configuration;
+import freemarker.template.ObjectWrapper;
+import org.apache.struts2.ServletActionContext;
+import org.apache.struts2.StrutsInternalTestCase;
+import org.apache.struts2.views.freemarker.FreemarkerManager;
+import org.apache.struts2.views.freemarker.ScopesHashModel;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.ServletContext;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class FreemarkerTemplateEngineTest extends StrutsInternalTestCase {
+
+    private CountingTemplateLoader templateLoader;
+    private FreemarkerTemplateEngine engine;
+    private MockHttpServletRequest request;
+    private int builtModels;
+
+    public void testResolvedTemplateIsReused() throws Exception {
+        templateLoader.putTemplate("template/simple/text.ftl", "simple");
+
+        assertEquals("simple", render(new Template("template", "xhtml", "text")));
+        assertEquals(2, templateLoader.lookups.size());
+        assertEquals("template/xhtml/text.ftl", templateLoader.lookups.get(0));
+        assertEquals("template/simple/text.ftl", templateLoader.lookups.get(1));
+
+        // parent theme template is used directly
+        templateLoader.lookups.clear();
+        assertEquals("simple", render(new Template("template", "xhtml", "text")));
+        assertEquals(1, templateLoader.lookups.size());
+        assertEquals("template/simple/text.ftl", templateLoader.lookups.get(0));
+    }
+
+    public void testResolvedTemplateIsSearchedAgainWhenRemoved() throws Exception {
+        templateLoader.putTemplate("template/simple/text.ftl", "simple");
+        assertEquals("simple", render(new Template("template", "xhtml", "text")));
+
+        templateLoader.removeTemplate("template/simple/text.ftl");
+        templateLoader.putTemplate("template/xhtml/text.ftl", "xhtml");
+        assertEquals("xhtml", render(new Template("template", "xhtml", "text")));
+    }
+
+    public void testTemplatesAreNotRememberedInDevMode() throws Exception {
+        engine.setDevMode("true");
+        templateLoader.putTemplate("template/simple/text.ftl", "simple");
+        assertEquals("simple", render(new Template("template", "xhtml", "text")));
+
+        templateLoader.putTemplate("template/xhtml/text.ftl", "xhtml");
+        assertEquals("xhtml", render(new Template("template", "xhtml", "text")));
+    }
+
+    public void testTemplateModelIsReusedWithinRequest() throws Exception {
+        templateLoader.putTemplate("template/simple/text.ftl", "${themeProperties.parent!'none'}");
+        templateLoader.putTemplate("template/simple/other.ftl", "other");
+
+        assertEquals("simple", render(new Template("template", "xhtml", "text")));
+        assertEquals("other", render(new Template("template", "simple", "other")));
+        assertEquals("none", render(new Template("template", "simple", "text")));
+        assertEquals(1, builtModels);
+
+        // the session is exposed in the model
+        request.getSession(true);
+        assertEquals("other", render(new Template("template", "simple", "other")));
+        assertEquals(2, builtModels);
+
+        // new request
+        request = new MockHttpServletRequest();
+        ServletActionContext.setRequest(request);
+        assertEquals("other", render(new Template("template", "simple", "other")));
+        assertEquals(3, builtModels);
+    }
+
+    public void testTemplateModelIsReleasedWhenRenderingFails() throws Exception {
+        FreemarkerManager freemarkerManager = engine.freemarkerManager;
+        engine = new FreemarkerTemplateEngine() {
+            @Override
+            public Map getThemeProps(Template template) {
+                if ("broken".equals(template.getTheme())) {
+                    throw new IllegalStateException("broken theme");
+                }
+                return super.getThemeProps(template);
+            }
+        };
+        engine.setFreemarkerManager(freemarkerManager);
+        templateLoader.putTemplate("template/broken/text.ftl", "broken");
+        templateLoader.putTemplate("template/simple/text.ftl", "simple");
+
+        try {
+            render(new Template("template", "broken", "text"));
+            fail("theme properties should have failed");
+        } catch (IllegalStateException expected) {
+        }
+        assertEquals("simple", render(new Template("template", "simple", "text")));
+        assertEquals(1, builtModels);
+    }
+
+    public void testNestedTagGetsOwnTemplateModel() throws Exception {
+        ValueStack stack = ActionContext.getContext().getValueStack();
+        ObjectWrapper wrapper = new Configuration(Configuration.VERSION_2_3_0).getObjectWrapper();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        FreemarkerTemplateEngine.TagTemplateModel outer = engine.acquireTemplateModel(stack, null, null, request, response, wrapper);
+        FreemarkerTemplateEngine.TagTemplateModel nested = engine.acquireTemplateModel(stack, null, null, request, response, wrapper);
+        assertNotSame(outer.model, nested.model);
+        nested.inUse = false;
+        outer.inUse = false;
+
+        assertSame(outer.model, engine.acquireTemplateModel(stack, null, null, request, response, wrapper).model);
+    }
+
+    private String render(Template template) throws Exception {
+        StringWriter writer = new StringWriter();
+        ValueStack stack = ActionContext.getContext().getValueStack();
+        engine.renderTemplate(new TemplateRenderingContext(template, writer, stack, new HashMap(), null));
+        return writer.toString();
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        templateLoader = new CountingTemplateLoader();
+
+        final Configuration configuration = new Configuration(Configuration.VERSION_2_3_0);
+        configuration.setTemplateLoader(templateLoader);
+        configuration.setTemplateUpdateDelayMilliseconds(0);
+        configuration.setLocalizedLookup(false);
+
+        engine = new FreemarkerTemplateEngine();
+        engine.setFreemarkerManager(new FreemarkerManager() {
+            @Override
+            public synchronized Configuration getConfiguration(ServletContext servletContext) {
+                return configuration;
+            }
+
+            @Override
+            public ScopesHashModel buildTemplateModel(ValueStack stack, Object action, ServletContext servletContext,
+                                                      HttpServletRequest request, HttpServletResponse response, ObjectWrapper wrapper) {
+                builtModels++;
+                return new ScopesHashModel(wrapper, servletContext, request);
+            }
+        });
+
+        request = new MockHttpServletRequest();
+        ServletActionContext.setRequest(request);
+        ServletActionContext.setResponse(new MockHttpServletResponse());
+    }
+
+    private static class CountingTemplateLoader extends StringTemplateLoader {
+
+        private final List<String> lookups = new ArrayList<>();
+
+        @Override
+        public Object findTemplateSource(String name) {
+            if (name.endsWith(".ftl")) {
+                lookups.add(name);
+            }
+            return super.findTemplateSource(name);
+        }
+    }
+}
@@ -38,6 +38,8 @@ import org.apache.struts2.StrutsConstants;
 import org.apache.struts2.StrutsInternalTestCase;
 import org.apache.struts2.dispatcher.mapper.ActionMapping;
 import org.apache.struts2.dispatcher.multipart.MultiPartRequestWrapper;
+import org.apache.struts2.interceptor.exec.ExecutorProvider;
+import org.apache.struts2.interceptor.exec.StrutsExecutorProvider;
 import org.apache.struts2.util.ObjectFactoryDestroyable;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
@@ -253,6 +255,7 @@ public class DispatcherTest extends StrutsInternalTestCase {
         final InnerDestroyableObjectFactory destroyedObjectFactory = new InnerDestroyableObjectFactory();
         destroyedObjectFactory.setContainer((Container) mockContainer.proxy());
         mockContainer.expectAndReturn("getInstance", C.args(C.eq(ObjectFactory.class)), destroyedObjectFactory);
+        mockContainer.matchAndReturn("getInstance", C.args(C.eq(ExecutorProvider.class)), null);
 
         mockConfiguration.expectAndReturn("getContainer", mockContainer.proxy());
         mockConfiguration.expectAndReturn("getContainer", mockContainer.proxy());
@@ -283,6 +286,8 @@ public class DispatcherTest extends StrutsInternalTestCase {
 
         Mock mockContainer = new Mock(Container.class);
         mockContainer.matchAndReturn("getInstance", C.args(C.eq(ObjectFactory.class)), new ObjectFactory());
+        StrutsExecutorProvider executorProvider = new StrutsExecutorProvider(1, 0);
+        mockContainer.matchAndReturn("getInstance", C.args(C.eq(ExecutorProvider.class)), executorProvider);
         String reloadConfigs = container.getInstance(String.class, StrutsConstants.STRUTS_CONFIGURATION_XML_RELOAD);
         mockContainer.expectAndReturn("getInstance", C.args(C.eq(String.class), C.eq(StrutsConstants.STRUTS_CONFIGURATION_XML_RELOAD)),
                 reloadConfigs);
@@ -299,6 +304,7 @@ public class DispatcherTest extends StrutsInternalTestCase {
         dispatcher.init();
         dispatcher.cleanup();
 
+        assertTrue(executorProvider.isShutdown());
         mockInterceptor.verify();
         mockContainer.verify();
         mockConfiguration.verify();
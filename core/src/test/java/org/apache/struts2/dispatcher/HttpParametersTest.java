@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.dispatcher;
+
+import junit.framework.TestCase;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class HttpParametersTest extends TestCase {
+
+    public void testLazyParametersViewRequestMap() {
+        Map<String, String[]> requestMap = new LinkedHashMap<>();
+        requestMap.put("name", new String[]{"Lukasz"});
+        requestMap.put("tags", new String[]{"a", "b"});
+
+        HttpParameters parameters = HttpParameters.createLazily(requestMap);
+
+        assertEquals(2, parameters.size());
+        assertTrue(parameters.contains("name"));
+        assertEquals("Lukasz", parameters.get("name").getValue());
+        assertSame(parameters.get("name"), parameters.get("name"));
+        assertEquals(2, parameters.get("tags").getMultipleValues().length);
+        assertFalse(parameters.get("missing").isDefined());
+        assertEquals("[name, tags]", parameters.keySet().toString());
+    }
+
+    public void testLazyParametersKeepRequestMapUntouched() {
+        Map<String, String[]> requestMap = new HashMap<>();
+        requestMap.put("name", new String[]{"Lukasz"});
+        requestMap.put("page", new String[]{"1"});
+
+        HttpParameters parameters = HttpParameters.createLazily(Collections.unmodifiableMap(requestMap));
+        parameters.remove("page");
+        parameters.appendAll(Collections.<String, Parameter>singletonMap("name", new Parameter.Request("name", "Tomasz")));
+        parameters.appendAll(Collections.<String, Parameter>singletonMap("sort", new Parameter.Request("sort", "asc")));
+
+        assertEquals(2, parameters.size());
+        assertFalse(parameters.contains("page"));
+        assertFalse(parameters.get("page").isDefined());
+        assertEquals("Tomasz", parameters.get("name").getValue());
+        assertEquals("asc", parameters.get("sort").getValue());
+        assertEquals(2, parameters.entrySet().size());
+        assertEquals("[name, sort]", parameters.keySet().toString());
+
+        assertEquals(2, requestMap.size());
+        assertEquals("1", requestMap.get("page")[0]);
+        assertEquals("Lukasz", requestMap.get("name")[0]);
+    }
+
+    public void testLazyParametersSurviveRecycledRequestMap() {
+        Map<String, String[]> requestMap = new HashMap<>();
+        requestMap.put("name", new String[]{"Lukasz"});
+
+        HttpParameters parameters = HttpParameters.createLazily(requestMap);
+        requestMap.clear();
+        requestMap.put("other", new String[]{"Tomasz"});
+
+        assertEquals(1, parameters.size());
+        assertEquals("Lukasz", parameters.get("name").getValue());
+        assertFalse(parameters.contains("other"));
+    }
+
+    public void testLazyParametersSize() {
+        Map<String, String[]> requestMap = new HashMap<>();
+        requestMap.put("name", new String[]{"Lukasz"});
+        requestMap.put("page", new String[]{"1"});
+
+        HttpParameters parameters = HttpParameters.createLazily(requestMap);
+        parameters.remove("page");
+        parameters.remove("page");
+        parameters.remove("missing");
+        assertEquals(1, parameters.size());
+
+        parameters.appendAll(Collections.<String, Parameter>singletonMap("page", new Parameter.Request("page", "2")));
+        parameters.appendAll(Collections.<String, Parameter>singletonMap("name", new Parameter.Request("name", "Tomasz")));
+        assertEquals(2, parameters.size());
+        assertEquals(2, parameters.keySet().size());
+
+        parameters.remove("name");
+        parameters.remove("page");
+        assertEquals(0, parameters.size());
+        assertTrue(parameters.isEmpty());
+    }
+
+    public void testParentCopiesLazyParameters() {
+        HttpParameters parent = HttpParameters.createLazily(Collections.singletonMap("id", new String[]{"7"}));
+
+        HttpParameters parameters = HttpParameters.create(Collections.singletonMap("name", "Lukasz")).withParent(parent).build();
+
+        assertEquals(2, parameters.size());
+        assertEquals("7", parameters.get("id").getValue());
+        assertEquals("Lukasz", parameters.get("name").getValue());
+    }
+
+}
@@ -20,12 +20,18 @@ package org.apache.struts2.dispatcher.multipart;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import javax.servlet.http.HttpServletRequest;
 
+import org.apache.commons.fileupload.util.Streams;
 import org.apache.struts2.dispatcher.LocalizedMessage;
 import org.junit.Before;
 import org.junit.Test;
@@ -70,4 +76,75 @@ public class JakartaStreamMultiPartRequestTest {
         LocalizedMessage next = multiPart.getErrors().iterator().next();
         Assert.assertEquals(next.getTextKey(), "struts.messages.upload.error.SizeLimitExceededException");
     }
+
+    @Test
+    public void streamFileParts() throws IOException {
+        HttpServletRequest request = mockRequest(streamingEntity());
+        final List<String> streamed = new ArrayList<>();
+        multiPart.setMaxSize("-1");
+        multiPart.setStreamFileParts("true");
+
+        multiPart.parse(request, tempDir.toString());
+
+        Assert.assertTrue(multiPart.hasPendingParts());
+        Assert.assertEquals(multiPart.getParameter("before"), "1");
+        Assert.assertNull(multiPart.getParameter("after"));
+
+        List<String> fieldNames = multiPart.parsePendingParts(new FilePartHandler() {
+            public void handle(String fieldName, String fileName, String contentType, InputStream content) throws IOException {
+                streamed.add(fieldName + ":" + fileName + ":" + contentType + ":" + Streams.asString(content));
+            }
+        });
+
+        Assert.assertFalse(multiPart.hasPendingParts());
+        Assert.assertEquals(streamed, Arrays.asList("upload:test.csv:text/csv:1,2", "upload:test2.csv:text/csv:3,4"));
+        Assert.assertEquals(fieldNames, Collections.singletonList("after"));
+        Assert.assertEquals(multiPart.getParameter("after"), "2");
+        Assert.assertFalse(multiPart.getFileParameterNames().hasMoreElements());
+        Assert.assertTrue(multiPart.getErrors().isEmpty());
+    }
+
+    @Test
+    public void storePendingFilePartsOnAccess() throws IOException {
+        HttpServletRequest request = mockRequest(streamingEntity());
+        multiPart.setMaxSize("-1");
+        multiPart.setStreamFileParts("true");
+        tempDir.toFile().mkdirs();
+
+        multiPart.parse(request, tempDir.toString());
+
+        Assert.assertTrue(multiPart.hasPendingParts());
+        try {
+            Assert.assertEquals(multiPart.getFileNames("upload"), new String[]{"test.csv", "test2.csv"});
+            Assert.assertFalse(multiPart.hasPendingParts());
+            Assert.assertEquals(multiPart.getParameter("after"), "2");
+        } finally {
+            multiPart.cleanUp();
+        }
+    }
+
+    private String streamingEntity() {
+        StringBuilder entity = new StringBuilder();
+        entity.append("\r\n--__X_BOUNDARY__\r\n");
+        entity.append("Content-Disposition: form-data; name=\"before\"\r\n\r\n1\r\n");
+        entity.append("--__X_BOUNDARY__\r\n");
+        entity.append("Content-Disposition: form-data; name=\"upload\"; filename=\"test.csv\"\r\n");
+        entity.append("Content-Type: text/csv\r\n\r\n1,2\r\n");
+        entity.append("--__X_BOUNDARY__\r\n");
+        entity.append("Content-Disposition: form-data; name=\"upload\"; filename=\"test2.csv\"\r\n");
+        entity.append("Content-Type: text/csv\r\n\r\n3,4\r\n");
+        entity.append("--__X_BOUNDARY__\r\n");
+        entity.append("Content-Disposition: form-data; name=\"after\"\r\n\r\n2\r\n");
+        entity.append("--__X_BOUNDARY__--\r\n");
+        return entity.toString();
+    }
+
+    private HttpServletRequest mockRequest(String entity) throws IOException {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(request.getContentType()).thenReturn("multipart/form-data; charset=utf-8; boundary=__X_BOUNDARY__");
+        Mockito.when(request.getMethod()).thenReturn("POST");
+        Mockito.when(request.getContentLength()).thenReturn(Integer.valueOf(-1));
+        Mockito.when(request.getInputStream()).thenReturn(new DelegatingServletInputStream(new ByteArrayInputStream(entity.getBytes(StandardCharsets.UTF_8))));
+        return request;
+    }
 }
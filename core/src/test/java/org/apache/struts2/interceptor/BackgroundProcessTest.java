@@ -22,14 +22,17 @@ import com.mockobjects.servlet.MockHttpServletRequest;
 import com.opensymphony.xwork2.ActionContext;
 import com.opensymphony.xwork2.mock.MockActionInvocation;
 import org.apache.struts2.StrutsInternalTestCase;
+import org.apache.struts2.interceptor.exec.StrutsExecutorProvider;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Test case for BackgroundProcessTest.
@@ -81,6 +84,37 @@ public class BackgroundProcessTest extends StrutsInternalTestCase {
         assertEquals(bp.done, deserializedBp.done);
     }
 
+    public void testFailedProcessClearsActionContextOfPooledThread() throws Exception {
+        StrutsExecutorProvider executorProvider = new StrutsExecutorProvider(1, 1);
+        try {
+            MockActionInvocationWithActionInvoker invocation = new MockActionInvocationWithActionInvoker(new Callable<String>() {
+                @Override
+                public String call() throws Exception {
+                    throw new IllegalStateException("failed");
+                }
+            });
+            invocation.setInvocationContext(ActionContext.getContext());
+
+            BackgroundProcess bp = new BackgroundProcess("BackgroundProcessTest.testFailedProcess", invocation,
+                    Thread.MIN_PRIORITY, executorProvider);
+            assertTrue(bp.waitUntilDone(5, TimeUnit.SECONDS));
+            assertTrue(bp.getException() instanceof IllegalStateException);
+
+            final AtomicReference<ActionContext> pooledContext = new AtomicReference<>();
+            final CountDownLatch checked = new CountDownLatch(1);
+            executorProvider.execute(new Runnable() {
+                public void run() {
+                    pooledContext.set(ActionContext.getContext());
+                    checked.countDown();
+                }
+            });
+            assertTrue(checked.await(5, TimeUnit.SECONDS));
+            assertNull(pooledContext.get());
+        } finally {
+            executorProvider.shutdown();
+        }
+    }
+
 
     private class MockActionInvocationWithActionInvoker extends MockActionInvocation {
         private Callable<String> actionInvoker;
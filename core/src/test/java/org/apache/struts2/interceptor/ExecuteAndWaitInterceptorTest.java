@@ -39,6 +39,8 @@ import com.opensymphony.xwork2.util.location.LocatableProperties;
 import org.apache.struts2.ServletActionContext;
 import org.apache.struts2.StrutsInternalTestCase;
 import org.apache.struts2.dispatcher.HttpParameters;
+import org.apache.struts2.interceptor.exec.ExecutorProvider;
+import org.apache.struts2.interceptor.exec.StrutsExecutorProvider;
 import org.apache.struts2.views.jsp.StrutsMockHttpServletRequest;
 import org.apache.struts2.views.jsp.StrutsMockHttpSession;
 
@@ -49,6 +51,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Test case for ExecuteAndWaitInterceptor.
@@ -168,6 +171,46 @@ public class ExecuteAndWaitInterceptorTest extends StrutsInternalTestCase {
         assertTrue("Job done already after 500 so there should not be such long delay", diff <= 1000);
     }
 
+    public void testWaitWithExecutor() throws Exception {
+        StrutsExecutorProvider executorProvider = new StrutsExecutorProvider(1, 1);
+        waitInterceptor.setExecutorProvider(executorProvider);
+        waitInterceptor.setDelay(1500);
+        waitInterceptor.setDelaySleepInterval(100);
+
+        try {
+            ActionProxy proxy = buildProxy("action1");
+            long before = System.currentTimeMillis();
+            String result = proxy.execute();
+            long diff = System.currentTimeMillis() - before;
+            assertEquals("success", result);
+            assertTrue("Job done already after 500 so there should not be such long delay", diff <= 1000);
+        } finally {
+            executorProvider.shutdown();
+        }
+    }
+
+    public void testRejectedByExecutor() throws Exception {
+        waitInterceptor.setExecutorProvider(new ExecutorProvider() {
+            public void execute(Runnable task) {
+                throw new RejectedExecutionException("busy");
+            }
+
+            public boolean isShutdown() {
+                return false;
+            }
+
+            public void shutdown() {
+            }
+        });
+        waitInterceptor.setDelay(0);
+        waitInterceptor.setDelaySleepInterval(0);
+
+        ActionProxy proxy = buildProxy("action1");
+        String result = proxy.execute();
+        assertEquals(ExecuteAndWaitInterceptor.REJECTED, result);
+        assertTrue("rejected process must not be stored in session", session.isEmpty());
+    }
+
     public void testFromDeserializedSession() throws Exception {
         waitInterceptor.setDelay(0);
         waitInterceptor.setDelaySleepInterval(0);
@@ -259,6 +302,7 @@ public class ExecuteAndWaitInterceptorTest extends StrutsInternalTestCase {
                 .addActionConfig("action1", new ActionConfig.Builder("", "action1", ExecuteAndWaitDelayAction.class.getName())
                     .addResultConfig(new ResultConfig.Builder(Action.SUCCESS, MockResult.class.getName()).build())
                     .addResultConfig(new ResultConfig.Builder(ExecuteAndWaitInterceptor.WAIT, MockResult.class.getName()).build())
+                    .addResultConfig(new ResultConfig.Builder(ExecuteAndWaitInterceptor.REJECTED, MockResult.class.getName()).build())
                     .addInterceptor(new InterceptorMapping("params", parametersInterceptor))
                     .addInterceptor(new InterceptorMapping("execAndWait", waitInterceptor))
                     .build())
@@ -25,11 +25,14 @@ import com.opensymphony.xwork2.ValidationAwareSupport;
 import com.opensymphony.xwork2.mock.MockActionInvocation;
 import com.opensymphony.xwork2.util.ClassLoaderUtil;
 import org.apache.commons.fileupload.servlet.ServletFileUpload;
+import org.apache.commons.fileupload.util.Streams;
 import org.apache.struts2.ServletActionContext;
 import org.apache.struts2.StrutsInternalTestCase;
 import org.apache.struts2.TestAction;
+import org.apache.struts2.action.UploadStreamAware;
 import org.apache.struts2.dispatcher.HttpParameters;
 import org.apache.struts2.dispatcher.multipart.JakartaMultiPartRequest;
+import org.apache.struts2.dispatcher.multipart.JakartaStreamMultiPartRequest;
 import org.apache.struts2.dispatcher.multipart.StrutsUploadedFile;
 import org.apache.struts2.dispatcher.multipart.MultiPartRequestWrapper;
 import org.apache.struts2.dispatcher.multipart.UploadedFile;
@@ -38,9 +41,12 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import javax.servlet.http.HttpServletRequest;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -409,6 +415,92 @@ public class FileUploadInterceptorTest extends StrutsInternalTestCase {
         assertTrue(msg.startsWith("Der Request übertraf die maximal erlaubte Größe"));
     }
 
+    public void testStreamedUpload() throws Exception {
+        MyStreamingAction action = container.inject(MyStreamingAction.class);
+        MockActionInvocation mai = prepareStreamingUpload(action);
+
+        interceptor.setAllowedTypes("text/plain");
+        interceptor.intercept(mai);
+
+        assertFalse(action.hasErrors());
+        assertEquals(Arrays.asList("file:test.txt:text/plain:plain content"), action.streamed);
+
+        HttpParameters parameters = mai.getInvocationContext().getParameters();
+        assertEquals("form field after the file should be available", "value", parameters.get("after").getValue());
+        assertFalse("no files should be stored", parameters.contains("file"));
+    }
+
+    public void testStreamedUploadTooLarge() throws Exception {
+        MyStreamingAction action = container.inject(MyStreamingAction.class);
+        MockActionInvocation mai = prepareStreamingUpload(action);
+
+        interceptor.setMaximumSize(5L);
+        interceptor.intercept(mai);
+
+        assertTrue(action.streamed.isEmpty());
+        assertTrue(action.hasFieldErrors());
+        assertNotNull(action.getFieldErrors().get("file"));
+        assertEquals("value", mai.getInvocationContext().getParameters().get("after").getValue());
+    }
+
+    public void testStreamedUploadTooLargeCaughtByAction() throws Exception {
+        MyStreamingAction action = container.inject(MyStreamingAction.class);
+        action.ignoreErrors = true;
+        MockActionInvocation mai = prepareStreamingUpload(action);
+
+        interceptor.setMaximumSize(5L);
+        interceptor.intercept(mai);
+
+        assertTrue(action.streamed.isEmpty());
+        assertNotNull(action.getFieldErrors().get("file"));
+    }
+
+    public void testStreamedUploadActionFailurePropagates() throws Exception {
+        MyStreamingAction action = container.inject(MyStreamingAction.class);
+        action.failure = new IllegalStateException("storage unavailable");
+        MockActionInvocation mai = prepareStreamingUpload(action);
+
+        try {
+            interceptor.intercept(mai);
+            fail("IllegalStateException expected");
+        } catch (IllegalStateException e) {
+            assertSame(action.failure, e);
+        }
+        assertFalse(action.hasErrors());
+    }
+
+    private MockActionInvocation prepareStreamingUpload(Object action) throws IOException {
+        final String bondary = "simple boundary";
+        final String endline = "\r\n";
+
+        MockHttpServletRequest req = new MockHttpServletRequest();
+        req.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        req.setMethod("POST");
+        req.addHeader("Content-type", "multipart/form-data; boundary=" + bondary);
+        String content = "--" + bondary + endline +
+                "Content-Disposition: form-data; name=\"file\"; filename=\"test.txt\"" + endline +
+                "Content-Type: text/plain" + endline + endline +
+                "plain content" + endline +
+                "--" + bondary + endline +
+                "Content-Disposition: form-data; name=\"after\"" + endline + endline +
+                "value" + endline +
+                "--" + bondary + "--" + endline;
+        req.setContent(content.getBytes(StandardCharsets.UTF_8));
+
+        JakartaStreamMultiPartRequest multiPart = new JakartaStreamMultiPartRequest();
+        multiPart.setMaxSize("2000");
+        multiPart.setStreamFileParts("true");
+
+        MockActionInvocation mai = new MockActionInvocation();
+        mai.setAction(action);
+        mai.setResultCode("success");
+        mai.setInvocationContext(ActionContext.getContext());
+        ActionContext.getContext()
+            .withParameters(HttpParameters.create(new HashMap<String, Object>()).build())
+            .withServletRequest(new MultiPartRequestWrapper(multiPart, req, tempDir.getAbsolutePath(), new DefaultLocaleProvider()));
+        return mai;
+    }
+
     private String encodeTextFile(String bondary, String endline, String name, String filename, String contentType, String content) {
         final StringBuilder sb = new StringBuilder(64);
         sb.append(endline);
@@ -460,5 +552,29 @@ public class FileUploadInterceptorTest extends StrutsInternalTestCase {
         // no methods
     }
 
+    public static class MyStreamingAction extends ActionSupport implements UploadStreamAware {
+
+        private static final long serialVersionUID = -4012738457623470937L;
+
+        private final List<String> streamed = new ArrayList<>();
+        private boolean ignoreErrors;
+        private RuntimeException failure;
+
+        @Override
+        public void withUploadStream(String fieldName, String fileName, String contentType, InputStream content) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            try {
+                String value = Streams.asString(content);
+                streamed.add(fieldName + ":" + fileName + ":" + contentType + ":" + value);
+            } catch (IOException e) {
+                if (!ignoreErrors) {
+                    throw e;
+                }
+            }
+        }
+    }
+
 
 }
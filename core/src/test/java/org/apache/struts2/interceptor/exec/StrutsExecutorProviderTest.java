@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.interceptor.exec;
+
+import org.apache.struts2.StrutsInternalTestCase;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class StrutsExecutorProviderTest extends StrutsInternalTestCase {
+
+    public void testDefaultProvider() {
+        ExecutorProvider executorProvider = container.getInstance(ExecutorProvider.class);
+
+        assertTrue(executorProvider instanceof StrutsExecutorProvider);
+        assertSame(executorProvider, container.getInstance(ExecutorProvider.class));
+    }
+
+    public void testRejectsWhenExhausted() throws Exception {
+        StrutsExecutorProvider executorProvider = new StrutsExecutorProvider(1, 1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch executed = new CountDownLatch(2);
+        Runnable task = new Runnable() {
+            public void run() {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                executed.countDown();
+            }
+        };
+
+        try {
+            executorProvider.execute(task);
+            executorProvider.execute(task);
+            try {
+                executorProvider.execute(task);
+                fail("Third task should be rejected");
+            } catch (RejectedExecutionException expected) {
+                // one running and one queued
+            }
+        } finally {
+            release.countDown();
+            executorProvider.shutdown();
+        }
+
+        assertTrue(executorProvider.isShutdown());
+        assertTrue(executed.await(5, TimeUnit.SECONDS));
+    }
+
+}
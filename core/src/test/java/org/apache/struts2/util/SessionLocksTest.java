@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.util;
+
+import junit.framework.TestCase;
+import org.springframework.mock.web.MockHttpSession;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class SessionLocksTest extends TestCase {
+
+    public void testLockIsKeptWhileInUse() {
+        MockHttpSession session = new MockHttpSession();
+        final int locks = SessionLocks.getLockCount();
+
+        Lock lock = SessionLocks.lock(session);
+        try {
+            assertEquals(locks + 1, SessionLocks.getLockCount());
+            Lock nested = SessionLocks.lock(session);
+            try {
+                assertSame(lock, nested);
+            } finally {
+                nested.unlock();
+            }
+            assertEquals(locks + 1, SessionLocks.getLockCount());
+
+            Lock other = SessionLocks.lock(new MockHttpSession());
+            try {
+                assertNotSame(lock, other);
+            } finally {
+                other.unlock();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        assertEquals(locks, SessionLocks.getLockCount());
+        assertFalse(session.getAttributeNames().hasMoreElements());
+    }
+
+    public void testLockOfInvalidatedSession() {
+        MockHttpSession session = new MockHttpSession() {
+            @Override
+            public String getId() {
+                throw new IllegalStateException("invalidated");
+            }
+        };
+        final int locks = SessionLocks.getLockCount();
+
+        Lock lock = SessionLocks.lock(session);
+        try {
+            assertSame(lock, SessionLocks.lock(session));
+            lock.unlock();
+            assertEquals(locks, SessionLocks.getLockCount());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void testSessionInvalidatedWhileWaiting() throws Exception {
+        final AtomicBoolean invalidated = new AtomicBoolean();
+        final MockHttpSession session = new MockHttpSession() {
+            @Override
+            public String getId() {
+                if (invalidated.get()) {
+                    throw new IllegalStateException("invalidated");
+                }
+                return super.getId();
+            }
+        };
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final int locks = SessionLocks.getLockCount();
+
+        ReentrantLock lock = (ReentrantLock) SessionLocks.lock(session);
+        Thread other = new Thread(new Runnable() {
+            public void run() {
+                try {
+                    SessionLocks.lock(session).unlock();
+                } catch (Throwable t) {
+                    failure.set(t);
+                }
+            }
+        });
+        try {
+            other.start();
+            while (!lock.hasQueuedThreads()) {
+                Thread.sleep(10);
+            }
+            invalidated.set(true);
+        } finally {
+            lock.unlock();
+        }
+        other.join();
+
+        assertNull(failure.get());
+        assertFalse(lock.isLocked());
+        assertEquals(locks, SessionLocks.getLockCount());
+    }
+
+    public void testContentionIsRecorded() throws Exception {
+        final MockHttpSession session = new MockHttpSession();
+        final long contentions = SessionLocks.getContentionCount();
+        final long acquisitions = SessionLocks.getAcquisitionCount();
+
+        ReentrantLock lock = (ReentrantLock) SessionLocks.lock(session);
+        Thread other = new Thread(new Runnable() {
+            public void run() {
+                SessionLocks.lock(session).unlock();
+            }
+        });
+        try {
+            other.start();
+            while (!lock.hasQueuedThreads()) {
+                Thread.sleep(10);
+            }
+            // keep the other thread waiting for a measurable time
+            Thread.sleep(10);
+        } finally {
+            lock.unlock();
+        }
+        other.join();
+
+        assertFalse(lock.isLocked());
+        assertEquals(acquisitions + 2, SessionLocks.getAcquisitionCount());
+        assertEquals(contentions + 1, SessionLocks.getContentionCount());
+        assertTrue(SessionLocks.getWaitTime(TimeUnit.NANOSECONDS) > 0);
+    }
+
+}
@@ -30,6 +30,7 @@ import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockServletContext;
 
 import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.URIResolver;
 import javax.xml.transform.stream.StreamSource;
@@ -82,6 +83,25 @@ public class XSLTResultTest extends StrutsInternalTestCase {
         assertTrue(out.indexOf("<result xmlns=\"http://www.w3.org/TR/xhtml1/strict\"") > -1);
     }
 
+    public void testTemplatesCache() throws Exception {
+        Templates templates = result.getTemplates("XSLTResultTest.xsl");
+        assertSame(templates, result.getTemplates("XSLTResultTest.xsl"));
+
+        result.setParse(false);
+        result.setStylesheetLocation("XSLTResultTest.xsl");
+        result.execute(mai);
+        String first = response.getContentAsString();
+
+        // transformer is taken from the pool
+        response = new MockHttpServletResponse();
+        ActionContext.getContext().put(ServletActionContext.HTTP_RESPONSE, response);
+        result.execute(mai);
+        assertEquals(first, response.getContentAsString());
+
+        result.setNoCache("true");
+        assertNotSame(templates, result.getTemplates("XSLTResultTest.xsl"));
+    }
+
     public void testSimpleTransform5() throws Exception {
         result.setParse(false);
         result.setStylesheetLocation("XSLTResultTest6.xsl");
@@ -32,17 +32,25 @@ import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.text.CharacterIterator;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.text.StringCharacterIterator;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Stack;
@@ -62,10 +70,17 @@ public class DefaultJSONWriter implements JSONWriter {
 
     private static char[] hex = "0123456789ABCDEF".toCharArray();
 
+    /**
+     * When streaming, the buffer is drained into the target writer once it grows beyond this size
+     */
+    private static final int FLUSH_THRESHOLD = 8192;
+
     private static final ConcurrentMap<Class<?>, BeanInfo> BEAN_INFO_CACHE_IGNORE_HIERARCHY = new ConcurrentHashMap<>();
     private static final ConcurrentMap<Class<?>, BeanInfo> BEAN_INFO_CACHE = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<PlanKey, SerializationPlan> SERIALIZATION_PLANS = new ConcurrentHashMap<>();
 
     private StringBuilder buf = new StringBuilder();
+    private Writer out;
     private Stack<Object> stack = new Stack<>();
     private boolean ignoreHierarchy = true;
     private Object root;
@@ -74,6 +89,7 @@ public class DefaultJSONWriter implements JSONWriter {
     private Collection<Pattern> excludeProperties;
     private Collection<Pattern> includeProperties;
     private DateFormat formatter;
+    private Map<String, DateFormat> dateFormats = new HashMap<>();
     private boolean enumAsBean = ENUM_AS_BEAN_DEFAULT;
     private boolean excludeNullProperties;
     private boolean cacheBeanInfo = true;
@@ -109,6 +125,46 @@ public class DefaultJSONWriter implements JSONWriter {
     @Override
     public String write(Object object, Collection<Pattern> excludeProperties,
                         Collection<Pattern> includeProperties, boolean excludeNullProperties) throws JSONException {
+        this.out = null;
+        this.reset(object, excludeProperties, includeProperties, excludeNullProperties);
+        this.value(object, null);
+
+        return this.buf.toString();
+    }
+
+    /**
+     * Streams the object into the given writer, only a small buffer is kept in memory,
+     * it is drained into the writer as the object graph is walked.
+     *
+     * @param object
+     *            Object to be serialized into JSON
+     * @param excludeProperties
+     *            Patterns matching properties to ignore
+     * @param includeProperties
+     *            Patterns matching properties to include
+     * @param excludeNullProperties
+     *            enable/disable excluding of null properties
+     * @param writer
+     *            target of the serialized JSON
+     * @throws JSONException in case of error during serialize
+     * @throws IOException in case of IO errors
+     */
+    @Override
+    public void write(Object object, Collection<Pattern> excludeProperties, Collection<Pattern> includeProperties,
+                      boolean excludeNullProperties, Writer writer) throws JSONException, IOException {
+        this.out = writer;
+        try {
+            this.reset(object, excludeProperties, includeProperties, excludeNullProperties);
+            this.value(object, null);
+            this.drain();
+        } finally {
+            this.out = null;
+            this.buf.setLength(0);
+        }
+    }
+
+    protected void reset(Object object, Collection<Pattern> excludeProperties,
+                         Collection<Pattern> includeProperties, boolean excludeNullProperties) {
         this.excludeNullProperties = excludeNullProperties;
         this.buf.setLength(0);
         this.stack.clear();
@@ -118,9 +174,18 @@ public class DefaultJSONWriter implements JSONWriter {
                 || ((includeProperties != null) && !includeProperties.isEmpty());
         this.excludeProperties = excludeProperties;
         this.includeProperties = includeProperties;
-        this.value(object, null);
+    }
 
-        return this.buf.toString();
+    /**
+     * Writes buffered content into the target writer if streaming
+     *
+     * @throws IOException in case of IO errors
+     */
+    protected void drain() throws IOException {
+        if (this.out != null && this.buf.length() > 0) {
+            this.out.append(this.buf);
+            this.buf.setLength(0);
+        }
     }
 
     /**
@@ -152,6 +217,14 @@ public class DefaultJSONWriter implements JSONWriter {
         }
 
         this.process(object, method);
+
+        if (this.out != null && this.buf.length() >= FLUSH_THRESHOLD) {
+            try {
+                this.drain();
+            } catch (IOException e) {
+                throw new JSONException(e);
+            }
+        }
     }
 
     /**
@@ -218,55 +291,32 @@ public class DefaultJSONWriter implements JSONWriter {
     protected void bean(Object object) throws JSONException {
         this.add("{");
 
-        BeanInfo info;
-
         try {
             Class clazz = excludeProxyProperties ? ProxyUtil.ultimateTargetClass(object) : object.getClass();
 
-            info = ((object == this.root) && this.ignoreHierarchy)
-                    ? getBeanInfoIgnoreHierarchy(clazz)
-                    : getBeanInfo(clazz);
-
-            PropertyDescriptor[] props = info.getPropertyDescriptors();
+            SerializationPlan plan = getSerializationPlan(clazz, (object == this.root) && this.ignoreHierarchy);
 
             boolean hasData = false;
-            for (PropertyDescriptor prop : props) {
-                String name = prop.getName();
-                Method accessor = prop.getReadMethod();
-                Method baseAccessor = findBaseAccessor(clazz, accessor);
-
-                if (baseAccessor != null) {
-                    if (baseAccessor.isAnnotationPresent(JSON.class)) {
-                        JSONAnnotationFinder jsonFinder = new JSONAnnotationFinder(baseAccessor).invoke();
-
-                        if (!jsonFinder.shouldSerialize()) continue;
-                        if (jsonFinder.getName() != null) {
-                            name = jsonFinder.getName();
-                        }
-                    }
-                    // ignore "class" and others
-                    if (this.shouldExcludeProperty(prop)) {
+            for (PropertyPlan property : plan.properties) {
+                String name = property.name;
+                String expr = null;
+                if (this.buildExpr) {
+                    expr = this.expandExpr(name);
+                    if (this.shouldExcludeProperty(expr)) {
                         continue;
                     }
-                    String expr = null;
-                    if (this.buildExpr) {
-                        expr = this.expandExpr(name);
-                        if (this.shouldExcludeProperty(expr)) {
-                            continue;
-                        }
-                        expr = this.setExprStack(expr);
-                    }
+                    expr = this.setExprStack(expr);
+                }
 
-                    Object value = accessor.invoke(object);
-                    if (baseAccessor.isAnnotationPresent(JSONFieldBridge.class)) {
-                        value = getBridgedValue(baseAccessor, value);
-                    }
+                Object value = property.read(object);
+                if (property.bridged) {
+                    value = getBridgedValue(property.baseAccessor, value);
+                }
 
-                    boolean propertyPrinted = this.add(name, value, accessor, hasData);
-                    hasData = hasData || propertyPrinted;
-                    if (this.buildExpr) {
-                        this.setExprStack(expr);
-                    }
+                boolean propertyPrinted = this.add(name, value, property.accessor, hasData);
+                hasData = hasData || propertyPrinted;
+                if (this.buildExpr) {
+                    this.setExprStack(expr);
                 }
             }
 
@@ -283,6 +333,56 @@ public class DefaultJSONWriter implements JSONWriter {
         this.add("}");
     }
 
+    /**
+     * Returns the properties of the given class to serialize, resolved once per class and reused
+     * for all its instances unless bean info caching is disabled.
+     *
+     * @param clazz class of the serialized bean
+     * @param ignoreHierarchy whether to ignore properties defined on base classes
+     * @return serialization plan of the class
+     * @throws Exception in case of introspection errors
+     */
+    protected SerializationPlan getSerializationPlan(Class<?> clazz, boolean ignoreHierarchy) throws Exception {
+        if (!cacheBeanInfo) {
+            return buildSerializationPlan(clazz, ignoreHierarchy);
+        }
+        PlanKey key = new PlanKey(getClass(), clazz, ignoreHierarchy);
+        SerializationPlan plan = SERIALIZATION_PLANS.get(key);
+        if (plan == null) {
+            plan = buildSerializationPlan(clazz, ignoreHierarchy);
+            SERIALIZATION_PLANS.putIfAbsent(key, plan);
+        }
+        return plan;
+    }
+
+    private SerializationPlan buildSerializationPlan(Class<?> clazz, boolean ignoreHierarchy) throws Exception {
+        BeanInfo info = ignoreHierarchy ? getBeanInfoIgnoreHierarchy(clazz) : getBeanInfo(clazz);
+
+        List<PropertyPlan> properties = new ArrayList<>();
+        for (PropertyDescriptor prop : info.getPropertyDescriptors()) {
+            String name = prop.getName();
+            Method accessor = prop.getReadMethod();
+            Method baseAccessor = findBaseAccessor(clazz, accessor);
+
+            if (baseAccessor != null) {
+                if (baseAccessor.isAnnotationPresent(JSON.class)) {
+                    JSONAnnotationFinder jsonFinder = new JSONAnnotationFinder(baseAccessor).invoke();
+
+                    if (!jsonFinder.shouldSerialize()) continue;
+                    if (jsonFinder.getName() != null) {
+                        name = jsonFinder.getName();
+                    }
+                }
+                // ignore "class" and others
+                if (this.shouldExcludeProperty(prop)) {
+                    continue;
+                }
+                properties.add(new PropertyPlan(name, accessor, baseAccessor));
+            }
+        }
+        return new SerializationPlan(properties);
+    }
+
     protected BeanInfo getBeanInfoIgnoreHierarchy(final Class<?> clazz) throws IntrospectionException {
         BeanInfo beanInfo = BEAN_INFO_CACHE_IGNORE_HIERARCHY.get(clazz);
         if (beanInfo != null) {
@@ -501,11 +601,20 @@ public class DefaultJSONWriter implements JSONWriter {
         if (this.formatter == null)
             this.formatter = new SimpleDateFormat(JSONUtil.RFC3339_FORMAT);
 
-        DateFormat formatter = (json != null) && (json.format().length() > 0) ? new SimpleDateFormat(json
-                .format()) : this.formatter;
+        DateFormat formatter = (json != null) && (json.format().length() > 0) ? getDateFormat(json.format())
+                : this.formatter;
         this.string(formatter.format(date));
     }
 
+    private DateFormat getDateFormat(String format) {
+        DateFormat dateFormat = this.dateFormats.get(format);
+        if (dateFormat == null) {
+            dateFormat = new SimpleDateFormat(format);
+            this.dateFormats.put(format, dateFormat);
+        }
+        return dateFormat;
+    }
+
     /*
      * Add array to buffer
      */
@@ -678,6 +787,84 @@ public class DefaultJSONWriter implements JSONWriter {
         this.excludeProxyProperties = excludeProxyProperties;
     }
 
+    /**
+     * Properties of a class to serialize, in order
+     */
+    protected static final class SerializationPlan {
+        private final List<PropertyPlan> properties;
+
+        SerializationPlan(List<PropertyPlan> properties) {
+            this.properties = properties;
+        }
+    }
+
+    private static final class PropertyPlan {
+        private final String name;
+        private final Method accessor;
+        private final Method baseAccessor;
+        private final MethodHandle getter;
+        private final boolean bridged;
+
+        PropertyPlan(String name, Method accessor, Method baseAccessor) {
+            this.name = name;
+            this.accessor = accessor;
+            this.baseAccessor = baseAccessor;
+            this.getter = unreflect(accessor);
+            this.bridged = baseAccessor.isAnnotationPresent(JSONFieldBridge.class);
+        }
+
+        private static MethodHandle unreflect(Method accessor) {
+            try {
+                return MethodHandles.lookup().unreflect(accessor).asType(MethodType.methodType(Object.class, Object.class));
+            } catch (IllegalAccessException e) {
+                LOG.debug("Cannot create method handle for {}, falling back to reflection", accessor, e);
+                return null;
+            }
+        }
+
+        Object read(Object object) throws Exception {
+            if (getter == null) {
+                return accessor.invoke(object);
+            }
+            try {
+                return getter.invokeExact(object);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+    }
+
+    private static final class PlanKey {
+        private final Class<?> writerClass;
+        private final Class<?> beanClass;
+        private final boolean ignoreHierarchy;
+
+        PlanKey(Class<?> writerClass, Class<?> beanClass, boolean ignoreHierarchy) {
+            this.writerClass = writerClass;
+            this.beanClass = beanClass;
+            this.ignoreHierarchy = ignoreHierarchy;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof PlanKey)) return false;
+            PlanKey that = (PlanKey) o;
+            return ignoreHierarchy == that.ignoreHierarchy
+                    && writerClass == that.writerClass
+                    && beanClass == that.beanClass;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = writerClass.hashCode();
+            result = 31 * result + beanClass.hashCode();
+            return 31 * result + (ignoreHierarchy ? 1 : 0);
+        }
+    }
+
     protected static class JSONAnnotationFinder {
         private boolean serialize = true;
         private Method accessor;
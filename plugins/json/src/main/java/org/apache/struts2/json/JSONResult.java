@@ -35,6 +35,7 @@ import org.apache.struts2.json.smd.SMDGenerator;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -54,6 +55,9 @@ import java.util.regex.Pattern;
  * to be excluded. The regular expressions are evaluated against the OGNL
  * expression representation of the properties. </li>
  *
+ * <li>streaming - serialize directly into the response without building
+ * the whole JSON string in memory first. </li>
+ *
  * </ul>
  * <!-- END SNIPPET: parameters -->
  * <p><b>Example:</b></p>
@@ -84,6 +88,7 @@ public class JSONResult implements Result {
     private boolean prefix;
     private boolean enableSMD = false;
     private boolean enableGZIP = false;
+    private boolean streaming = false;
     private boolean ignoreHierarchy = true;
     private boolean ignoreInterfaces = true;
     private boolean enumAsBean = JSONWriter.ENUM_AS_BEAN_DEFAULT;
@@ -195,7 +200,11 @@ public class JSONResult implements Result {
         try {
             Object rootObject;
             rootObject = readRootObject(invocation);
-            writeToResponse(response, createJSONString(request, rootObject), enableGzip(request));
+            if (streaming) {
+                streamToResponse(request, response, rootObject, enableGzip(request));
+            } else {
+                writeToResponse(response, createJSONString(request, rootObject), enableGzip(request));
+            }
         } catch (IOException exception) {
             LOG.error(exception.getMessage(), exception);
             throw exception;
@@ -246,6 +255,37 @@ public class JSONResult implements Result {
             wrapSuffix));
     }
 
+    /**
+     * Serializes the root object directly into the response, the JSON document is never
+     * built in memory. As the response gets committed while serializing, an error raised
+     * in the middle of serialization leaves a truncated document behind.
+     *
+     * @param request current request
+     * @param response current response
+     * @param rootObject object to serialize
+     * @param gzip whether the response should be compressed
+     * @throws IOException in case of IO errors
+     * @throws JSONException in case of error during serialize
+     */
+    protected void streamToResponse(HttpServletRequest request, HttpServletResponse response, Object rootObject,
+                                    boolean gzip) throws IOException, JSONException {
+        SerializationParams params = new SerializationParams(response, getEncoding(), isWrapWithComments(),
+            null, false, gzip, noCache, statusCode, errorCode, prefix, contentType, wrapPrefix, wrapSuffix);
+
+        Writer writer = JSONUtil.openJSONResponseWriter(params);
+        String callbackName = findCallbackName(request);
+        if (callbackName != null) {
+            writer.write(callbackName);
+            writer.write('(');
+        }
+        jsonUtil.serialize(writer, rootObject, excludeProperties, includeProperties, ignoreHierarchy,
+            enumAsBean, excludeNullProperties, defaultDateFormat, cacheBeanInfo);
+        if (callbackName != null) {
+            writer.write(')');
+        }
+        JSONUtil.closeJSONResponseWriter(writer, params);
+    }
+
     protected org.apache.struts2.json.smd.SMD buildSMDObject(ActionInvocation invocation) {
         return new SMDGenerator(findRootObject(invocation), excludeProperties, ignoreInterfaces).generate(invocation);
     }
@@ -275,13 +315,21 @@ public class JSONResult implements Result {
     }
 
     protected String addCallbackIfApplicable(HttpServletRequest request, String json) {
+        String callbackName = findCallbackName(request);
+        if (callbackName != null) {
+            json = callbackName + "(" + json + ")";
+        }
+        return json;
+    }
+
+    protected String findCallbackName(HttpServletRequest request) {
         if ((callbackParameter != null) && (callbackParameter.length() > 0)) {
             String callbackName = request.getParameter(callbackParameter);
             if (StringUtils.isNotEmpty(callbackName)) {
-                json = callbackName + "(" + json + ")";
+                return callbackName;
             }
         }
-        return json;
+        return null;
     }
 
     /**
@@ -364,6 +412,19 @@ public class JSONResult implements Result {
         this.enableGZIP = enableGZIP;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * @param streaming Serialize directly into the response instead of building the whole JSON
+     *                  string first, keeps memory usage low for large responses. Content-Length
+     *                  header isn't set in this mode
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     public boolean isNoCache() {
         return noCache;
     }
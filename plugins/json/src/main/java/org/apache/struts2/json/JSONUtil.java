@@ -19,9 +19,8 @@
 package org.apache.struts2.json;
 
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.Reader;
 import java.io.Writer;
@@ -230,7 +229,8 @@ public class JSONUtil {
      * @throws JSONException in case of error during serialize
      */
     public void serialize(Writer writer, Object object, boolean cacheBeanInfo) throws IOException, JSONException {
-        writer.write(serialize(object, cacheBeanInfo));
+        this.writer.setCacheBeanInfo(cacheBeanInfo);
+        this.writer.write(object, null, null, false, writer);
     }
 
     /**
@@ -280,7 +280,48 @@ public class JSONUtil {
     public void serialize(Writer writer, Object object, Collection<Pattern> excludeProperties,
             Collection<Pattern> includeProperties, boolean excludeNullProperties, boolean cacheBeanInfo) 
             throws IOException, JSONException {
-        writer.write(serialize(object, excludeProperties, includeProperties, true, excludeNullProperties, cacheBeanInfo));
+        this.writer.setIgnoreHierarchy(true);
+        this.writer.setCacheBeanInfo(cacheBeanInfo);
+        this.writer.write(object, excludeProperties, includeProperties, excludeNullProperties, writer);
+    }
+
+    /**
+     * Serializes an object into JSON to the given writer, excluding any
+     * properties matching any of the regular expressions in the given
+     * collection. The JSON is streamed into the writer while the object
+     * is being walked.
+     *
+     * @param writer
+     *            Writer to serialize the object to
+     * @param object
+     *            object to be serialized
+     * @param excludeProperties
+     *            Patterns matching properties to exclude
+     * @param includeProperties
+     *            Patterns matching properties to include
+     * @param ignoreHierarchy
+     *            whether to ignore properties defined on base classes of the
+     *            root object
+     * @param enumAsBean
+     *            whether to serialized enums a Bean or name=value pair
+     * @param excludeNullProperties
+     *            enable/disable excluding of null properties
+     * @param defaultDateFormat
+     *            date format used to serialize dates
+     * @param cacheBeanInfo
+     * 			  Specifies whether to cache bean info in the JSONWriter
+     * @throws IOException  in case of IO errors
+     * @throws JSONException in case of error during serialize
+     */
+    public void serialize(Writer writer, Object object, Collection<Pattern> excludeProperties,
+                          Collection<Pattern> includeProperties, boolean ignoreHierarchy, boolean enumAsBean,
+                          boolean excludeNullProperties, String defaultDateFormat, boolean cacheBeanInfo)
+            throws IOException, JSONException {
+        this.writer.setIgnoreHierarchy(ignoreHierarchy);
+        this.writer.setEnumAsBean(enumAsBean);
+        this.writer.setDateFormatter(defaultDateFormat);
+        this.writer.setCacheBeanInfo(cacheBeanInfo);
+        this.writer.write(object, excludeProperties, includeProperties, excludeNullProperties, writer);
     }
 
     /**
@@ -324,24 +365,101 @@ public class JSONUtil {
 
     public static void writeJSONToResponse(SerializationParams serializationParams) throws IOException {
         StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append(getJSONPrefix(serializationParams));
         if (StringUtils.isNotBlank(serializationParams.getSerializedJSON()))
             stringBuilder.append(serializationParams.getSerializedJSON());
-
-        if (StringUtils.isNotBlank(serializationParams.getWrapPrefix()))
-            stringBuilder.insert(0, serializationParams.getWrapPrefix());
-        else if (serializationParams.isWrapWithComments()) {
-            stringBuilder.insert(0, "/* ");
-            stringBuilder.append(" */");
-        } else if (serializationParams.isPrefix())
-            stringBuilder.insert(0, "{}&& ");
-
-        if (StringUtils.isNotBlank(serializationParams.getWrapSuffix()))
-            stringBuilder.append(serializationParams.getWrapSuffix());
+        stringBuilder.append(getJSONSuffix(serializationParams));
 
         String json = stringBuilder.toString();
 
         LOG.debug("[JSON] {}", json);
 
+        HttpServletResponse response = serializationParams.getResponse();
+        prepareResponse(serializationParams);
+
+        byte[] bytes = json.getBytes(serializationParams.getEncoding());
+        if (serializationParams.isGzip()) {
+            GZIPOutputStream out = null;
+            try {
+                out = new GZIPOutputStream(response.getOutputStream());
+                out.write(bytes);
+            } finally {
+                if (out != null) {
+                    out.finish();
+                    out.close();
+                }
+            }
+        } else {
+            response.setContentLength(bytes.length);
+            PrintWriter out = response.getWriter();
+            out.print(json);
+        }
+    }
+
+    /**
+     * Sets status, headers and content type as defined by the serialization params and
+     * opens a writer on the response, compressed if gzip was requested. The JSON prefix
+     * (wrap prefix, comments or "{}&amp;&amp; ") is already written into the returned writer,
+     * the caller must stream the body and then call
+     * {@link #closeJSONResponseWriter(Writer, SerializationParams)}.
+     * Content length isn't set as the size of the response isn't known up front.
+     *
+     * @param serializationParams params describing the response
+     * @return writer to stream the JSON body into
+     * @throws IOException in case of IO errors
+     */
+    public static Writer openJSONResponseWriter(SerializationParams serializationParams) throws IOException {
+        HttpServletResponse response = serializationParams.getResponse();
+        prepareResponse(serializationParams);
+
+        Writer writer;
+        if (serializationParams.isGzip()) {
+            writer = new OutputStreamWriter(new GZIPOutputStream(response.getOutputStream()), serializationParams.getEncoding());
+        } else {
+            writer = response.getWriter();
+        }
+        writer.write(getJSONPrefix(serializationParams));
+        return writer;
+    }
+
+    /**
+     * Writes the JSON suffix and finishes the response writer opened with
+     * {@link #openJSONResponseWriter(SerializationParams)}.
+     *
+     * @param writer writer returned by {@link #openJSONResponseWriter(SerializationParams)}
+     * @param serializationParams params describing the response
+     * @throws IOException in case of IO errors
+     */
+    public static void closeJSONResponseWriter(Writer writer, SerializationParams serializationParams) throws IOException {
+        writer.write(getJSONSuffix(serializationParams));
+        if (serializationParams.isGzip()) {
+            // finishes the gzip stream
+            writer.close();
+        } else {
+            writer.flush();
+        }
+    }
+
+    private static String getJSONPrefix(SerializationParams serializationParams) {
+        if (StringUtils.isNotBlank(serializationParams.getWrapPrefix()))
+            return serializationParams.getWrapPrefix();
+        else if (serializationParams.isWrapWithComments())
+            return "/* ";
+        else if (serializationParams.isPrefix())
+            return "{}&& ";
+        return "";
+    }
+
+    private static String getJSONSuffix(SerializationParams serializationParams) {
+        StringBuilder suffix = new StringBuilder();
+        if (StringUtils.isBlank(serializationParams.getWrapPrefix()) && serializationParams.isWrapWithComments())
+            suffix.append(" */");
+        if (StringUtils.isNotBlank(serializationParams.getWrapSuffix()))
+            suffix.append(serializationParams.getWrapSuffix());
+        return suffix.toString();
+    }
+
+    private static void prepareResponse(SerializationParams serializationParams) throws IOException {
         HttpServletResponse response = serializationParams.getResponse();
 
         // status or error code
@@ -362,29 +480,6 @@ public class JSONUtil {
 
         if (serializationParams.isGzip()) {
             response.addHeader("Content-Encoding", "gzip");
-            GZIPOutputStream out = null;
-            InputStream in = null;
-            try {
-                out = new GZIPOutputStream(response.getOutputStream());
-                in = new ByteArrayInputStream(json.getBytes(serializationParams.getEncoding()));
-                byte[] buf = new byte[1024];
-                int len;
-                while ((len = in.read(buf)) > 0) {
-                    out.write(buf, 0, len);
-                }
-            } finally {
-                if (in != null)
-                    in.close();
-                if (out != null) {
-                    out.finish();
-                    out.close();
-                }
-            }
-
-        } else {
-            response.setContentLength(json.getBytes(serializationParams.getEncoding()).length);
-            PrintWriter out = response.getWriter();
-            out.print(json);
         }
     }
 
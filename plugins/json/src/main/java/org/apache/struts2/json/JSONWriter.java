@@ -18,6 +18,8 @@
  */
 package org.apache.struts2.json;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Collection;
 import java.util.regex.Pattern;
 
@@ -35,6 +37,23 @@ public interface JSONWriter {
     String write(Object object, Collection<Pattern> excludeProperties,
                  Collection<Pattern> includeProperties, boolean excludeNullProperties) throws JSONException;
 
+    /**
+     * Serializes the object directly into the given writer. Implementations able to stream
+     * should override this method, the default one builds the whole document first.
+     *
+     * @param object Object to be serialized into JSON
+     * @param excludeProperties Patterns matching properties to ignore
+     * @param includeProperties Patterns matching properties to include
+     * @param excludeNullProperties enable/disable excluding of null properties
+     * @param writer target of the serialized JSON
+     * @throws JSONException in case of error during serialize
+     * @throws IOException in case of IO errors
+     */
+    default void write(Object object, Collection<Pattern> excludeProperties, Collection<Pattern> includeProperties,
+                       boolean excludeNullProperties, Writer writer) throws JSONException, IOException {
+        writer.write(write(object, excludeProperties, includeProperties, excludeNullProperties));
+    }
+
     void setIgnoreHierarchy(boolean ignoreHierarchy);
 
     void setEnumAsBean(boolean enumAsBean);
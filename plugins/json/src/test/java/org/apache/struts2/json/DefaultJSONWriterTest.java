@@ -24,6 +24,7 @@ import org.apache.struts2.json.bridge.StringBridge;
 import org.apache.struts2.util.TestUtils;
 import org.junit.Test;
 
+import java.io.StringWriter;
 import java.net.URL;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -31,6 +32,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.regex.Pattern;
 
 public class DefaultJSONWriterTest extends StrutsTestCase{
     @Test
@@ -78,6 +80,38 @@ public class DefaultJSONWriterTest extends StrutsTestCase{
         TestUtils.assertEquals(DefaultJSONWriter.class.getResource("jsonwriter-write-bean-03.txt"), json);
     }
 
+    @Test
+    public void testWriteToWriter() throws Exception {
+        List<Bean> beans = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Bean bean = new Bean();
+            bean.setStringField("str" + i);
+            bean.setIntField(i);
+            beans.add(bean);
+        }
+        List<Pattern> excludes = new ArrayList<>();
+        excludes.add(Pattern.compile(".*\\.enumBean"));
+
+        JSONWriter jsonWriter = new DefaultJSONWriter();
+        String expected = jsonWriter.write(beans, excludes, null, true);
+
+        StringWriter writer = new StringWriter();
+        jsonWriter.write(beans, excludes, null, true, writer);
+
+        assertEquals(expected, writer.toString());
+    }
+
+    @Test
+    public void testSerializationPlanIsCached() throws Exception {
+        DefaultJSONWriter jsonWriter = new DefaultJSONWriter();
+
+        assertSame(jsonWriter.getSerializationPlan(Bean.class, false), jsonWriter.getSerializationPlan(Bean.class, false));
+        assertNotSame(jsonWriter.getSerializationPlan(Bean.class, false), jsonWriter.getSerializationPlan(Bean.class, true));
+
+        jsonWriter.setCacheBeanInfo(false);
+        assertNotSame(jsonWriter.getSerializationPlan(Bean.class, false), jsonWriter.getSerializationPlan(Bean.class, false));
+    }
+
     private class BeanWithMap extends Bean{
         private Map map;
 
@@ -18,6 +18,7 @@
  */
 package org.apache.struts2.json;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.text.SimpleDateFormat;
@@ -32,9 +33,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
 
 import javax.servlet.http.HttpServletResponse;
 
+import org.apache.commons.io.IOUtils;
 import org.apache.struts2.StrutsStatics;
 import org.apache.struts2.StrutsTestCase;
 import org.apache.struts2.util.TestUtils;
@@ -535,6 +538,50 @@ public class JSONResultTest extends StrutsTestCase {
         assertEquals("application/json;charset=UTF-8", response.getContentType());
     }
 
+    public void testStreamingJSONP() throws Exception {
+        JSONResult result = new JSONResult();
+        result.setStreaming(true);
+        result.setCallbackParameter("callback");
+        request.addParameter("callback", "exec");
+
+        executeTest2Action(result);
+        String json = response.getContentAsString();
+
+        String normalizedActual = TestUtils.normalize(json, true);
+        String normalizedExpected = TestUtils.normalize(JSONResultTest.class.getResource("jsonp-1.txt"));
+        assertEquals(normalizedExpected, normalizedActual);
+        assertEquals("application/json;charset=UTF-8", response.getContentType());
+    }
+
+    public void testStreamingGzip() throws Exception {
+        JSONResult result = new JSONResult();
+        result.setStreaming(true);
+        result.setEnableGZIP(true);
+        result.setWrapWithComments(true);
+        request.addHeader("Accept-Encoding", "gzip, deflate");
+
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            values.add("value" + i);
+        }
+        TestAction action = new TestAction();
+        action.setCollection(values);
+
+        JSONUtil jsonUtil = new JSONUtil();
+        jsonUtil.setWriter(new DefaultJSONWriter());
+        result.setJsonUtil(jsonUtil);
+        result.setRoot("collection");
+        stack.push(action);
+        this.invocation.setAction(action);
+
+        result.execute(this.invocation);
+
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()));
+        String json = IOUtils.toString(in, "UTF-8");
+        assertEquals("/* " + jsonUtil.serialize(values, false) + " */", json);
+    }
+
     public void testNoCache() throws Exception {
         JSONResult result = new JSONResult();
         result.setNoCache(true);
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.rest;
+
+import java.util.Date;
+
+/**
+ * Implemented by actions able to tell the current ETag or last modified date of the requested resource
+ * cheaply. Both are consulted before the action method is executed on GET requests, if the client already
+ * has the current representation the action method isn't called at all and 304 (Not Modified) is returned.
+ */
+public interface CacheValidatorProvider {
+
+    /**
+     * @return ETag of the current representation of the resource or null if unknown
+     */
+    default Object getETag() {
+        return null;
+    }
+
+    /**
+     * @return last modification date of the resource or null if unknown
+     */
+    default Date getLastModified() {
+        return null;
+    }
+
+}
@@ -24,6 +24,7 @@ import com.opensymphony.xwork2.inject.Inject;
 import com.opensymphony.xwork2.interceptor.AbstractInterceptor;
 import org.apache.struts2.ServletActionContext;
 import org.apache.struts2.rest.handler.ContentTypeHandler;
+import org.apache.struts2.rest.handler.StreamingContentTypeHandler;
 
 import javax.servlet.http.HttpServletRequest;
 import java.io.InputStream;
@@ -53,8 +54,12 @@ public class ContentTypeInterceptor extends AbstractInterceptor {
         
         if (request.getContentLength() > 0) {
             InputStream is = request.getInputStream();
-            InputStreamReader reader = new InputStreamReader(is);
-            handler.toObject(invocation, reader, target);
+            if (handler instanceof StreamingContentTypeHandler) {
+                ((StreamingContentTypeHandler) handler).toObject(invocation, is, target);
+            } else {
+                InputStreamReader reader = new InputStreamReader(is);
+                handler.toObject(invocation, reader, target);
+            }
         }
         return invocation.invoke();
     }
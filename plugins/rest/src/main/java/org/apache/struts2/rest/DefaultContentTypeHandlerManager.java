@@ -26,11 +26,18 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.struts2.ServletActionContext;
 import org.apache.struts2.rest.handler.ContentTypeHandler;
+import org.apache.struts2.rest.handler.StreamingContentTypeHandler;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.StringWriter;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -186,12 +193,38 @@ public class DefaultContentTypeHandlerManager implements ContentTypeHandlerManag
             String extCode = resultCode + "." + handler.getExtension();
             if (actionConfig.getResults().get(extCode) != null) {
                 resultCode = extCode;
+            } else if (handler instanceof StreamingContentTypeHandler) {
+                StreamingContentTypeHandler streamingHandler = (StreamingContentTypeHandler) handler;
+                if (isContentETagRequired(req, methodResult)) {
+                    // the ETag header must be sent before the body, so the content is serialized once
+                    // into a buffer while its digest is computed
+                    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                    DigestOutputStream digest = new DigestOutputStream(buffer, createDigest());
+                    resultCode = streamingHandler.fromObject(invocation, target, resultCode, digest);
+                    if (applyContentETag(req, res, (HttpHeaders) methodResult, digest.getMessageDigest().digest())) {
+                        return resultCode;
+                    }
+                    if (buffer.size() > 0) {
+                        res.setContentLength(buffer.size());
+                        res.setContentType(handler.getContentType());
+                        buffer.writeTo(res.getOutputStream());
+                        res.getOutputStream().flush();
+                    }
+                } else {
+                    ResponseOutputStream out = new ResponseOutputStream(res, handler.getContentType());
+                    resultCode = streamingHandler.fromObject(invocation, target, resultCode, out);
+                    out.flush();
+                }
             } else {
                 StringWriter writer = new StringWriter();
                 resultCode = handler.fromObject(invocation, target, resultCode, writer);
                 String text = writer.toString();
                 if (text.length() > 0) {
                     byte[] data = text.getBytes("UTF-8");
+                    if (isContentETagRequired(req, methodResult)
+                            && applyContentETag(req, res, (HttpHeaders) methodResult, createDigest().digest(data))) {
+                        return resultCode;
+                    }
                     res.setContentLength(data.length);
                     res.setContentType(handler.getContentType());
                     res.getOutputStream().write(data);
@@ -203,6 +236,95 @@ public class DefaultContentTypeHandlerManager implements ContentTypeHandlerManag
     }
 
 
+    protected boolean isContentETagRequired(HttpServletRequest request, Object methodResult) {
+        return methodResult instanceof DefaultHttpHeaders
+                && ((DefaultHttpHeaders) methodResult).isContentETagRequired()
+                && ((DefaultHttpHeaders) methodResult).getStatus() == HttpServletResponse.SC_OK
+                && "get".equalsIgnoreCase(request.getMethod());
+    }
+
+    /**
+     * Sets a strong ETag computed from the content digest and answers with 304 (Not Modified)
+     * when the client already has this representation
+     *
+     * @param request The request
+     * @param response The response
+     * @param headers headers returned by the action
+     * @param digest digest of the serialized content
+     * @return true if the content must not be sent
+     */
+    protected boolean applyContentETag(HttpServletRequest request, HttpServletResponse response,
+                                       HttpHeaders headers, byte[] digest) {
+        String etag = "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        response.setHeader("ETag", etag);
+
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null && DefaultHttpHeaders.matchesETag(ifNoneMatch, etag)) {
+            LOG.debug("Content not modified, ETag: {}", etag);
+            headers.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return true;
+        }
+        return false;
+    }
+
+    private MessageDigest createDigest() throws IOException {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Streams content into the response, content type is set and the response stream is obtained
+     * with the first byte written, so nothing is touched if the handler doesn't produce any content
+     */
+    private static class ResponseOutputStream extends OutputStream {
+
+        private final HttpServletResponse response;
+        private final String contentType;
+        private OutputStream out;
+
+        ResponseOutputStream(HttpServletResponse response, String contentType) {
+            this.response = response;
+            this.contentType = contentType;
+        }
+
+        private OutputStream getOut() throws IOException {
+            if (out == null) {
+                response.setContentType(contentType);
+                out = response.getOutputStream();
+            }
+            return out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            getOut().write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len > 0) {
+                getOut().write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (out != null) {
+                out.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            // the response stream is managed by the container
+            flush();
+        }
+    }
+
     protected Integer readStatusCode(Object methodResult) {
         if (methodResult instanceof HttpHeaders) {
             return ((HttpHeaders) methodResult).getStatus();
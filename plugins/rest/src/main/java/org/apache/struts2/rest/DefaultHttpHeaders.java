@@ -38,6 +38,7 @@ public class DefaultHttpHeaders implements HttpHeaders {
     private String location;
     private boolean disableCaching;
     private boolean noETag = false;
+    private boolean contentETag = false;
     private Date lastModified;
 
     public DefaultHttpHeaders() {
@@ -67,6 +68,17 @@ public class DefaultHttpHeaders implements HttpHeaders {
         return this;
     }
 
+    /**
+     * When no ETag was set, computes a strong ETag from the serialized representation
+     * instead of using the hash code of the target
+     *
+     * @return this
+     */
+    public DefaultHttpHeaders withContentETag() {
+        this.contentETag = true;
+        return this;
+    }
+
     public DefaultHttpHeaders setLocationId(Object id) {
         this.locationId = id;
         return this;
@@ -82,6 +94,23 @@ public class DefaultHttpHeaders implements HttpHeaders {
         return this;
     }
 
+    /**
+     * Uses the validators exposed by a {@link CacheValidatorProvider} as ETag and last modified date,
+     * unless they were already set
+     *
+     * @param provider The provider of the validators
+     * @return this
+     */
+    public DefaultHttpHeaders withCacheValidators(CacheValidatorProvider provider) {
+        if (etag == null && !noETag) {
+            etag = provider.getETag();
+        }
+        if (lastModified == null) {
+            lastModified = provider.getLastModified();
+        }
+        return this;
+    }
+
     public DefaultHttpHeaders disableCaching() {
         this.disableCaching = true;
         return this;
@@ -98,7 +127,7 @@ public class DefaultHttpHeaders implements HttpHeaders {
         if (lastModified != null) {
             response.setDateHeader("Last-Modified", lastModified.getTime());
         }
-        if (etag == null && !noETag && target != null) {
+        if (etag == null && !noETag && !contentETag && target != null) {
             etag = String.valueOf(target.hashCode());
         }
         if (etag != null) {
@@ -121,30 +150,66 @@ public class DefaultHttpHeaders implements HttpHeaders {
             status = SC_CREATED;
         }
 
-        if (status == SC_OK && !disableCaching) {
-            boolean etagNotChanged = false;
-            boolean lastModifiedNotChanged = false;
-            String reqETag = request.getHeader("If-None-Match");
-            if (etag != null) {
-                if (etag.equals(reqETag)) {
-                    etagNotChanged = true;
-                }
-            }
+        if (status == SC_OK && !disableCaching && isNotModified(request)) {
+            status = SC_NOT_MODIFIED;
+        }
 
-            String headerIfModifiedSince = request.getHeader("If-Modified-Since");
-            if (lastModified != null && headerIfModifiedSince != null) {
-                lastModifiedNotChanged = compareIfModifiedSince(headerIfModifiedSince);
-            }
+        response.setStatus(status);
+        return resultCode;
+    }
+
+    /**
+     * Checks the conditional headers of the request against the ETag and the last modified date
+     *
+     * @param request The request
+     * @return true if the client already has the current representation of the resource
+     */
+    public boolean isNotModified(HttpServletRequest request) {
+        boolean etagNotChanged = false;
+        boolean lastModifiedNotChanged = false;
+        String reqETag = request.getHeader("If-None-Match");
+        if (etag != null && reqETag != null) {
+            etagNotChanged = matchesETag(reqETag, etag.toString());
+        }
+
+        String headerIfModifiedSince = request.getHeader("If-Modified-Since");
+        if (lastModified != null && headerIfModifiedSince != null) {
+            lastModifiedNotChanged = compareIfModifiedSince(headerIfModifiedSince);
+        }
+
+        return (etagNotChanged && lastModifiedNotChanged) ||
+                (etagNotChanged && headerIfModifiedSince == null) ||
+                (lastModifiedNotChanged && reqETag == null);
+    }
 
-            if ((etagNotChanged && lastModifiedNotChanged) ||
-                    (etagNotChanged && headerIfModifiedSince == null) ||
-                    (lastModifiedNotChanged && reqETag == null)) {
-                status = SC_NOT_MODIFIED;
+    /**
+     * Compares the ETags listed by an If-None-Match header with the given ETag, using the weak comparison required
+     * for If-None-Match, so a "W/" prefix is ignored on both sides
+     *
+     * @param ifNoneMatch value of the If-None-Match header, a comma separated list of ETags or "*"
+     * @param etag the current ETag
+     * @return true if one of the listed ETags matches
+     */
+    static boolean matchesETag(String ifNoneMatch, String etag) {
+        String current = stripWeakPrefix(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.equals("*") || stripWeakPrefix(candidate).equals(current)) {
+                return true;
             }
         }
+        return false;
+    }
 
-        response.setStatus(status);
-        return resultCode;
+    private static String stripWeakPrefix(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    /**
+     * @return true if the ETag has to be computed from the serialized representation
+     */
+    public boolean isContentETagRequired() {
+        return contentETag && etag == null && !noETag;
     }
 
     private boolean compareIfModifiedSince(String headerIfModifiedSince) {
@@ -51,6 +51,7 @@ public class RestActionInvocation extends DefaultActionInvocation {
     private boolean logger;
     private String defaultErrorResultName;
     private boolean restrictToGet = true;
+    private boolean contentETag = false;
 
     protected HttpHeaders httpHeaders;
     protected Object target;
@@ -82,11 +83,40 @@ public class RestActionInvocation extends DefaultActionInvocation {
         this.restrictToGet = BooleanUtils.toBoolean(restrictToGet);
     }
 
+    /**
+     * If set to true, a strong ETag is computed from the serialized representation of the target
+     * when the action doesn't provide one, instead of using the target's hash code
+     *
+     * @param contentETag true or false
+     */
+    @Inject(value = RestConstants.REST_CONTENT_ETAG, required = false)
+    public void setContentETag(String contentETag) {
+        this.contentETag = BooleanUtils.toBoolean(contentETag);
+    }
+
     @Inject
     public void setMimeTypeHandlerSelector(ContentTypeHandlerManager selector) {
         this.handlerSelector = selector;
     }
 
+    /**
+     * Skips the action method of a {@link CacheValidatorProvider} if the client already
+     * has the current representation of the resource.
+     */
+    @Override
+    protected String invokeAction(Object action, ActionConfig actionConfig) throws Exception {
+        if (action instanceof CacheValidatorProvider
+                && "get".equalsIgnoreCase(ServletActionContext.getRequest().getMethod())) {
+            DefaultHttpHeaders headers = new DefaultHttpHeaders()
+                    .withCacheValidators((CacheValidatorProvider) action);
+            if (headers.isNotModified(ServletActionContext.getRequest())) {
+                LOG.debug("Resource not modified, skipping execution of action {}", proxy.getActionName());
+                return saveResult(actionConfig, headers);
+            }
+        }
+        return super.invokeAction(action, actionConfig);
+    }
+
     /**
      * Save the result to be used later.
      * @param actionConfig current ActionConfig
@@ -171,6 +201,15 @@ public class RestActionInvocation extends DefaultActionInvocation {
         if (httpHeaders == null) {
             httpHeaders = new DefaultHttpHeaders(resultCode);
         }
+        if (httpHeaders instanceof DefaultHttpHeaders) {
+            if (action instanceof CacheValidatorProvider) {
+                // send the validators, so following requests can be answered before invoking the action
+                ((DefaultHttpHeaders) httpHeaders).withCacheValidators((CacheValidatorProvider) action);
+            }
+            if (contentETag) {
+                ((DefaultHttpHeaders) httpHeaders).withContentETag();
+            }
+        }
 
         // Apply headers
         if (!hasErrors) {
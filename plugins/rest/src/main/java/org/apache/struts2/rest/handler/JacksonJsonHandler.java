@@ -18,6 +18,7 @@
  */
 package org.apache.struts2.rest.handler;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -26,13 +27,15 @@ import com.opensymphony.xwork2.inject.Inject;
 import org.apache.struts2.StrutsConstants;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
 
 /**
  * Handles JSON content using jackson-lib
  */
-public class JacksonJsonHandler extends AbstractContentTypeHandler {
+public class JacksonJsonHandler extends AbstractContentTypeHandler implements StreamingContentTypeHandler {
 
     private static final String DEFAULT_CONTENT_TYPE = "application/json";
     private String defaultEncoding = "ISO-8859-1";
@@ -50,6 +53,18 @@ public class JacksonJsonHandler extends AbstractContentTypeHandler {
         return null;
     }
 
+    public void toObject(ActionInvocation invocation, InputStream in, Object target) throws IOException {
+        mapper.configure(SerializationFeature.WRITE_NULL_MAP_VALUES, false);
+        ObjectReader or = mapper.readerForUpdating(target);
+        or.readValue(in);
+    }
+
+    public String fromObject(ActionInvocation invocation, Object obj, String resultCode, OutputStream stream) throws IOException {
+        mapper.configure(SerializationFeature.WRITE_NULL_MAP_VALUES, false);
+        mapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(stream, obj);
+        return null;
+    }
+
     public String getContentType() {
         return DEFAULT_CONTENT_TYPE + ";charset=" + this.defaultEncoding;
     }
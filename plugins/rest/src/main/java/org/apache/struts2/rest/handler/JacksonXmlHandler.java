@@ -18,6 +18,7 @@
  */
 package org.apache.struts2.rest.handler;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import com.opensymphony.xwork2.ActionInvocation;
@@ -25,13 +26,15 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
 
 /**
  * Handles XML content using Jackson
  */
-public class JacksonXmlHandler extends AbstractContentTypeHandler {
+public class JacksonXmlHandler extends AbstractContentTypeHandler implements StreamingContentTypeHandler {
 
     private static final Logger LOG = LogManager.getLogger(JacksonXmlHandler.class);
 
@@ -50,6 +53,18 @@ public class JacksonXmlHandler extends AbstractContentTypeHandler {
         return null;
     }
 
+    public void toObject(ActionInvocation invocation, InputStream in, Object target) throws IOException {
+        LOG.debug("Converting input into an object of: {}", target.getClass().getName());
+        ObjectReader or = mapper.readerForUpdating(target);
+        or.readValue(in);
+    }
+
+    public String fromObject(ActionInvocation invocation, Object obj, String resultCode, OutputStream stream) throws IOException {
+        LOG.debug("Converting an object of {} into stream", obj.getClass().getName());
+        mapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(stream, obj);
+        return null;
+    }
+
     public String getContentType() {
         return DEFAULT_CONTENT_TYPE;
     }
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.rest.handler;
+
+import com.opensymphony.xwork2.ActionInvocation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A {@link ContentTypeHandler} able to work on raw byte streams, content is read from the request
+ * and written to the response as it is (de)serialized, without decoding it into characters first.
+ */
+public interface StreamingContentTypeHandler extends ContentTypeHandler {
+
+    /**
+     * Populates an object using data from the input stream
+     *
+     * @param invocation The action invocation for the current request
+     * @param in The input stream, usually the body of the request
+     * @param target The target, usually the action class
+     * @throws IOException If unable to read from the input stream
+     */
+    void toObject(ActionInvocation invocation, InputStream in, Object target) throws IOException;
+
+    /**
+     * Writes content to the stream, the stream must not be closed
+     *
+     * @param invocation The action invocation for the current request
+     * @param obj The object to write to the stream, usually the Action class
+     * @param resultCode The original result code
+     * @param stream The output stream, usually the response
+     * @return The new result code
+     * @throws IOException If unable to write to the output stream
+     */
+    String fromObject(ActionInvocation invocation, Object obj, String resultCode, OutputStream stream) throws IOException;
+
+}
@@ -31,8 +31,12 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Date;
 import java.util.Map;
@@ -41,7 +45,7 @@ import java.util.Set;
 /**
  * Handles XML content
  */
-public class XStreamHandler extends AbstractContentTypeHandler {
+public class XStreamHandler extends AbstractContentTypeHandler implements StreamingContentTypeHandler {
 
     private static final Logger LOG = LogManager.getLogger(XStreamHandler.class);
 
@@ -58,6 +62,21 @@ public class XStreamHandler extends AbstractContentTypeHandler {
         xstream.fromXML(in, target);
     }
 
+    public String fromObject(ActionInvocation invocation, Object obj, String resultCode, OutputStream out) throws IOException {
+        if (obj != null) {
+            XStream xstream = createXStream(invocation);
+            Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            xstream.toXML(obj, writer);
+            writer.flush();
+        }
+        return null;
+    }
+
+    public void toObject(ActionInvocation invocation, InputStream in, Object target) {
+        XStream xstream = createXStream(invocation);
+        xstream.fromXML(in, target);
+    }
+
     /**
      * @deprecated use version with {@link ActionInvocation}
      */
@@ -30,6 +30,7 @@ import junit.framework.TestCase;
 import org.apache.struts2.rest.handler.AbstractContentTypeHandler;
 import org.apache.struts2.rest.handler.ContentTypeHandler;
 import org.apache.struts2.rest.handler.FormUrlEncodedHandler;
+import org.apache.struts2.rest.handler.JacksonJsonHandler;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 
@@ -96,6 +97,50 @@ public class ContentTypeHandlerManagerTest extends TestCase {
         assertEquals(obj.getBytes().length, mockResponse.getContentLength());
     }
 
+    public void testHandleResultStreaming() throws IOException {
+        String obj = "mystring";
+        ContentTypeHandler handler = new JacksonJsonHandler();
+        mgr.handlersByExtension.put("json", handler);
+        mgr.setDefaultExtension("json");
+        ActionConfig actionConfig = new ActionConfig.Builder("", "", "").build();
+        MockActionProxy proxy = new MockActionProxy();
+        proxy.setConfig(actionConfig);
+        invocation.setProxy(proxy);
+        mgr.handleResult(invocation, new DefaultHttpHeaders().withStatus(SC_OK), obj);
+
+        assertEquals("\"mystring\"", mockResponse.getContentAsString());
+        assertEquals(handler.getContentType(), mockResponse.getContentType());
+    }
+
+    public void testHandleResultContentETag() throws IOException {
+        mgr.handlersByExtension.put("json", new JacksonJsonHandler());
+        mgr.setDefaultExtension("json");
+        ActionConfig actionConfig = new ActionConfig.Builder("", "", "").build();
+        MockActionProxy proxy = new MockActionProxy();
+        proxy.setConfig(actionConfig);
+        invocation.setProxy(proxy);
+
+        mgr.handleResult(invocation, new DefaultHttpHeaders().withContentETag(), "mystring");
+
+        String etag = mockResponse.getHeader("ETag");
+        assertNotNull(etag);
+        assertTrue(etag.startsWith("\""));
+        assertEquals("\"mystring\"", mockResponse.getContentAsString());
+        assertEquals("\"mystring\"".length(), mockResponse.getContentLength());
+
+        mockResponse = new MockHttpServletResponse();
+        ActionContext.getContext().withServletResponse(mockResponse);
+        mockRequest.addHeader("If-None-Match", etag);
+        DefaultHttpHeaders headers = new DefaultHttpHeaders().withContentETag();
+
+        mgr.handleResult(invocation, headers, "mystring");
+
+        assertEquals(SC_NOT_MODIFIED, mockResponse.getStatus());
+        assertEquals(SC_NOT_MODIFIED, headers.getStatus());
+        assertEquals(etag, mockResponse.getHeader("ETag"));
+        assertEquals("", mockResponse.getContentAsString());
+    }
+
     public void testHandleResultNotModified() throws IOException {
 
         Mock mockHandlerXml = new Mock(ContentTypeHandler.class);
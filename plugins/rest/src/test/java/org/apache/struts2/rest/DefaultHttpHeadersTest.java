@@ -105,6 +105,21 @@ public class DefaultHttpHeadersTest extends TestCase {
         assertEquals("123", mockResponse.getHeader("ETag"));
     }
 
+    public void testContentETag() {
+        DefaultHttpHeaders headers = new DefaultHttpHeaders()
+                .withContentETag();
+        headers.apply(mockRequest, mockResponse, new Object());
+
+        assertNull(mockResponse.getHeader("ETag"));
+        assertTrue(headers.isContentETagRequired());
+
+        headers = new DefaultHttpHeaders()
+                .withContentETag()
+                .withETag("asdf");
+
+        assertFalse(headers.isContentETagRequired());
+    }
+
     public void testNoCache() {
         DefaultHttpHeaders headers = new DefaultHttpHeaders()
                 .disableCaching();
@@ -123,6 +138,43 @@ public class DefaultHttpHeadersTest extends TestCase {
         assertEquals("asdf", mockResponse.getHeader("ETag"));
     }
 
+    public void testConditionalGetForNonStringETag() {
+        DefaultHttpHeaders headers = new DefaultHttpHeaders()
+                .withETag(42L);
+        mockRequest.addHeader("If-None-Match", "42");
+        headers.apply(mockRequest, mockResponse, new Object());
+
+        assertEquals(SC_NOT_MODIFIED, mockResponse.getStatus());
+        assertEquals("42", mockResponse.getHeader("ETag"));
+    }
+
+    public void testConditionalGetForETagList() {
+        DefaultHttpHeaders headers = new DefaultHttpHeaders()
+                .withETag("\"v2\"");
+        mockRequest.addHeader("If-None-Match", "\"v1\", W/\"v2\"");
+        headers.apply(mockRequest, mockResponse, new Object());
+
+        assertEquals(SC_NOT_MODIFIED, mockResponse.getStatus());
+    }
+
+    public void testConditionalGetForWeakETag() {
+        DefaultHttpHeaders headers = new DefaultHttpHeaders()
+                .withETag("W/\"v2\"");
+        mockRequest.addHeader("If-None-Match", "\"v2\"");
+        headers.apply(mockRequest, mockResponse, new Object());
+
+        assertEquals(SC_NOT_MODIFIED, mockResponse.getStatus());
+    }
+
+    public void testConditionalGetForETagListWithoutMatch() {
+        DefaultHttpHeaders headers = new DefaultHttpHeaders()
+                .withETag("\"v3\"");
+        mockRequest.addHeader("If-None-Match", "\"v1\", W/\"v2\"");
+        headers.apply(mockRequest, mockResponse, new Object());
+
+        assertEquals(SC_OK, mockResponse.getStatus());
+    }
+
     public void testConditionalGetForJustETagNotOK() {
         DefaultHttpHeaders headers = new DefaultHttpHeaders()
                 .withETag("asdf")
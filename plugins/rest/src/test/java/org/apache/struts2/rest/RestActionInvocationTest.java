@@ -174,6 +174,44 @@ public class RestActionInvocationTest extends TestCase {
         
     }
 	
+	public void testCacheValidatorProviderSkipsAction() throws Exception {
+		request.addHeader("If-None-Match", "v1");
+		request.setMethod("GET");
+
+		CachedRestAction action = new CachedRestAction();
+		ActionConfig actionConfig = new ActionConfig.Builder("org.apache.rest",
+				"RestAction", "org.apache.rest.RestAction").methodName("index").build();
+
+		restActionInvocation.invokeAction(action, actionConfig);
+		assertFalse(action.executed);
+
+		restActionInvocation.processResult();
+		assertEquals(SC_NOT_MODIFIED, response.getStatus());
+		assertEquals("v1", response.getHeader("ETag"));
+	}
+
+	public void testCacheValidatorProviderValidatorsAreSent() throws Exception {
+		request.setMethod("GET");
+
+		CachedRestAction action = new CachedRestAction();
+		((RestActionInvocationTester) restActionInvocation).setAction(action);
+		ResultConfig resultConfig = new ResultConfig.Builder("success",
+			"org.apache.struts2.result.HttpHeaderResult")
+			.addParam("status", "200").build();
+		ActionConfig actionConfig = new ActionConfig.Builder("org.apache.rest",
+				"RestAction", "org.apache.rest.RestAction")
+			.methodName("index")
+			.addResultConfig(resultConfig)
+			.build();
+		((MockActionProxy) restActionInvocation.getProxy()).setConfig(actionConfig);
+
+		restActionInvocation.saveResult(actionConfig, action.index());
+
+		restActionInvocation.processResult();
+		assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+		assertEquals("v1", response.getHeader("ETag"));
+	}
+
 	/**
 	 * Test the default error result.
 	 * @throws Exception
@@ -282,9 +320,29 @@ public class RestActionInvocationTest extends TestCase {
 			objectFactory = container.getInstance(ObjectFactory.class);
 			
         }
+
+    	void setAction(Object action) {
+    		this.action = action;
+    	}
     	
     }
 
+    class CachedRestAction extends RestActionSupport implements CacheValidatorProvider {
+
+    	boolean executed;
+
+    	@Override
+    	public Object getETag() {
+    		return "v1";
+    	}
+
+    	@Override
+    	public HttpHeaders index() {
+    		executed = true;
+    		return new DefaultHttpHeaders("success");
+    	}
+    }
+
     class RestAction extends RestActionSupport implements ModelDriven<List<String>> {
 
     	List<String> model;
@@ -21,9 +21,13 @@ package org.apache.struts2.rest.handler;
 import com.opensymphony.xwork2.mock.MockActionInvocation;
 import junit.framework.TestCase;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -80,6 +84,30 @@ public class JacksonJsonHandlerTest extends TestCase {
         assertEquals(source.size(), target.size());
     }
 
+    public void testFromObjectToStream() throws IOException {
+        Contact contact = new Contact("bob", true, 44);
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        JacksonJsonHandler handler = new JacksonJsonHandler();
+        handler.fromObject(new MockActionInvocation(), contact, "success", stream);
+
+        String data = stream.toString("UTF-8");
+        assertTrue(data.startsWith("{"));
+        assertTrue(data.contains("\"age\":44"));
+        assertTrue(data.contains("\"important\":true"));
+        assertTrue(data.contains("\"name\":\"bob\""));
+    }
+
+    public void testToObjectFromStream() throws IOException {
+        Contact contact = new Contact("bob", true, 44);
+
+        Contact target = new Contact();
+        InputStream in = new ByteArrayInputStream("{\"age\":44,\"important\":true,\"name\":\"bob\"}".getBytes(StandardCharsets.UTF_8));
+        JacksonJsonHandler handler = new JacksonJsonHandler();
+        handler.toObject(new MockActionInvocation(), in, target);
+        assertEquals(contact, target);
+    }
+
     public void testContentType() throws IOException {
         JacksonJsonHandler handler = new JacksonJsonHandler();
         assertEquals(handler.getContentType(), "application/json;charset=ISO-8859-1");
@@ -22,10 +22,13 @@ import com.opensymphony.xwork2.ActionInvocation;
 import com.opensymphony.xwork2.XWorkTestCase;
 import com.opensymphony.xwork2.mock.MockActionInvocation;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -66,6 +69,34 @@ public class JacksonXmlHandlerTest extends XWorkTestCase {
         assertEquals(xml, stream.toString());
     }
 
+    public void testObjectToXmlStream() throws Exception {
+        // given
+        SimpleBean obj = new SimpleBean();
+        obj.setName("Jan");
+        obj.setAge(12L);
+        obj.setParents(Arrays.asList("Adam", "Ewa"));
+
+        // when
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        handler.fromObject(ai, obj, null, stream);
+
+        // then
+        assertEquals(xml, stream.toString("UTF-8"));
+    }
+
+    public void testXmlStreamToObject() throws Exception {
+        // given
+        SimpleBean obj = new SimpleBean();
+
+        // when
+        handler.toObject(ai, new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), obj);
+
+        // then
+        assertEquals("Jan", obj.getName());
+        assertEquals(12L, obj.getAge().longValue());
+        assertEquals(Arrays.asList("Adam", "Ewa"), obj.getParents());
+    }
+
     public void testXmlToObject() throws Exception {
         // given
         SimpleBean obj = new SimpleBean();